@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.mockito.ArgumentCaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertArgThrowing;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Cost of a single verification with {@code assertArg()} in comparison to {@code argLambda()} and ArgumentCaptor.
+ * <p>
+ * Every benchmark calls a mock once, verifies the call and clears recorded invocations. Plain assertions (instead of AssertJ)
+ * are used to measure the matcher and not the assertion library.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssertionMatcherBenchmark {
+
+    private final ShipSearchCriteria searchCriteria = new ShipSearchCriteria(1000, 4);
+
+    private TacticalStation ts;
+
+    @Setup
+    public void setUp() {
+        ts = mock(TacticalStation.class);
+    }
+
+    @Benchmark
+    public void assertArgVerification() {
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        verify(ts).findNumberOfShipsInRangeByCriteria(assertArg(sc -> assertLessThan2000(sc.getMinimumRange())));
+        clearInvocations(ts);
+    }
+
+    @Benchmark
+    public void assertArgWithPrimitiveVerification() {
+        ts.fireTorpedo(2);
+        verify(ts).fireTorpedo(assertArg(this::assertLessThan2000));
+        clearInvocations(ts);
+    }
+
+    @Benchmark
+    public void assertArgThrowingVerification() {
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        verify(ts).findNumberOfShipsInRangeByCriteria(assertArgThrowing(sc -> assertLessThan2000(sc.getMinimumRange())));
+        clearInvocations(ts);
+    }
+
+    @Benchmark
+    public void argLambdaVerification() {
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        verify(ts).findNumberOfShipsInRangeByCriteria(argLambda(sc -> sc.getMinimumRange() < 2000));
+        clearInvocations(ts);
+    }
+
+    @Benchmark
+    public void argumentCaptorVerification() {
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        ArgumentCaptor<ShipSearchCriteria> captor = ArgumentCaptor.forClass(ShipSearchCriteria.class);
+        verify(ts).findNumberOfShipsInRangeByCriteria(captor.capture());
+        assertLessThan2000(captor.getValue().getMinimumRange());
+        clearInvocations(ts);
+    }
+
+    private void assertLessThan2000(int value) {
+        if (value >= 2000) {
+            throw new AssertionError("Expected less than 2000, but was " + value);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipRegistry;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import info.solidsoft.mockito.java8.domain.TacticalStation.TubeStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.BenchmarkMock.benchmarkMock;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Cost of a call to a benchmark mock in comparison to a "stub only" Mockito mock with the same stubbing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BenchmarkMockBenchmark {
+
+    private final int registryNumber = 1701;
+
+    private ShipRegistry stubOnlyRegistry;
+    private ShipRegistry benchmarkRegistry;
+    private TacticalStation stubOnlyStation;
+    private TacticalStation benchmarkStation;
+
+    @Setup
+    public void setUp() {
+        stubOnlyRegistry = mock(ShipRegistry.class, withSettings().stubOnly());
+        given(stubOnlyRegistry.findShipName(1701)).willReturn("Enterprise");
+        benchmarkRegistry = benchmarkMock(ShipRegistry.class, template -> given(template.findShipName(1701)).willReturn("Enterprise"));
+
+        stubOnlyStation = mock(TacticalStation.class, withSettings().stubOnly());
+        given(stubOnlyStation.getTubeStatus(1)).willReturn(TubeStatus.LOADED);
+        benchmarkStation = benchmarkMock(TacticalStation.class, template -> given(template.getTubeStatus(1)).willReturn(TubeStatus.LOADED));
+    }
+
+    @Benchmark
+    public String stubOnlyInterfaceMock() {
+        return stubOnlyRegistry.findShipName(registryNumber);
+    }
+
+    @Benchmark
+    public String benchmarkInterfaceMock() {
+        return benchmarkRegistry.findShipName(registryNumber);
+    }
+
+    @Benchmark
+    public TubeStatus stubOnlyClassMock() {
+        return stubOnlyStation.getTubeStatus(1);
+    }
+
+    @Benchmark
+    public TubeStatus benchmarkClassMock() {
+        return benchmarkStation.getTubeStatus(1);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import info.solidsoft.mockito.java8.domain.TacticalStation.TubeStatus;
+import org.mockito.ArgumentMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.LambdaMatcher.argIntLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambdaThrowing;
+import static info.solidsoft.mockito.java8.LambdaMatcher.lambda;
+import static org.mockito.AdditionalMatchers.and;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Cost of a call to a method stubbed with {@code argLambda()} in comparison to a classic ArgumentMatcher and a custom Answer
+ * (and of combined lambda matchers in comparison to {@code AdditionalMatchers.and()}).
+ * <p>
+ * Mocks are created as stub only to do not record (and keep) every invocation made in a benchmark loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LambdaMatcherBenchmark {
+
+    private final ShipSearchCriteria matchingCriteria = new ShipSearchCriteria(1500, 2);
+
+    private TacticalStation argLambdaStubbed;
+    private TacticalStation argLambdaThrowingStubbed;
+    private TacticalStation argumentMatcherStubbed;
+    private TacticalStation customAnswerStubbed;
+    private TacticalStation boxedIntArgLambdaStubbed;
+    private TacticalStation argIntLambdaStubbed;
+    private TacticalStation combinedLambdaMatcherStubbed;
+    private TacticalStation additionalMatchersAndStubbed;
+
+    @Setup
+    public void setUp() {
+        argLambdaStubbed = stubOnlyTacticalStation();
+        given(argLambdaStubbed.findNumberOfShipsInRangeByCriteria(argLambda(c -> c.getMinimumRange() > 1000))).willReturn(4);
+
+        argLambdaThrowingStubbed = stubOnlyTacticalStation();
+        given(argLambdaThrowingStubbed.findNumberOfShipsInRangeByCriteria(argLambdaThrowing(c -> c.getMinimumRange() > 1000))).willReturn(4);
+
+        argumentMatcherStubbed = stubOnlyTacticalStation();
+        given(argumentMatcherStubbed.findNumberOfShipsInRangeByCriteria(argThat(new MinimumRangeAbove1000()))).willReturn(4);
+
+        customAnswerStubbed = stubOnlyTacticalStation();
+        given(customAnswerStubbed.findNumberOfShipsInRangeByCriteria(any())).willAnswer(invocation -> {
+            ShipSearchCriteria criteria = invocation.getArgument(0);
+            return criteria.getMinimumRange() > 1000 ? 4 : 0;
+        });
+
+        boxedIntArgLambdaStubbed = stubOnlyTacticalStation();
+        given(boxedIntArgLambdaStubbed.getTubeStatus(argLambda((Integer tube) -> tube > 2))).willReturn(TubeStatus.BROKEN);
+
+        argIntLambdaStubbed = stubOnlyTacticalStation();
+        given(argIntLambdaStubbed.getTubeStatus(argIntLambda(tube -> tube > 2))).willReturn(TubeStatus.BROKEN);
+
+        combinedLambdaMatcherStubbed = stubOnlyTacticalStation();
+        given(combinedLambdaMatcherStubbed.findNumberOfShipsInRangeByCriteria(argThat(
+                lambda((ShipSearchCriteria c) -> c.getMinimumRange() > 1000, "range").and(lambda(c -> c.getNumberOfPhasers() > 1, "phasers")))))
+                .willReturn(4);
+
+        additionalMatchersAndStubbed = stubOnlyTacticalStation();
+        given(additionalMatchersAndStubbed.findNumberOfShipsInRangeByCriteria(
+                and(argLambda(c -> c.getMinimumRange() > 1000), argLambda(c -> c.getNumberOfPhasers() > 1)))).willReturn(4);
+    }
+
+    @Benchmark
+    public int argLambdaStubbing() {
+        return argLambdaStubbed.findNumberOfShipsInRangeByCriteria(matchingCriteria);
+    }
+
+    @Benchmark
+    public int argLambdaThrowingStubbing() {
+        return argLambdaThrowingStubbed.findNumberOfShipsInRangeByCriteria(matchingCriteria);
+    }
+
+    @Benchmark
+    public int argumentMatcherStubbing() {
+        return argumentMatcherStubbed.findNumberOfShipsInRangeByCriteria(matchingCriteria);
+    }
+
+    @Benchmark
+    public int customAnswerStubbing() {
+        return customAnswerStubbed.findNumberOfShipsInRangeByCriteria(matchingCriteria);
+    }
+
+    @Benchmark
+    public TubeStatus boxedIntArgLambdaStubbing() {
+        return boxedIntArgLambdaStubbed.getTubeStatus(3);
+    }
+
+    @Benchmark
+    public TubeStatus argIntLambdaStubbing() {
+        return argIntLambdaStubbed.getTubeStatus(3);
+    }
+
+    @Benchmark
+    public int combinedLambdaMatcherStubbing() {
+        return combinedLambdaMatcherStubbed.findNumberOfShipsInRangeByCriteria(matchingCriteria);
+    }
+
+    @Benchmark
+    public int additionalMatchersAndStubbing() {
+        return additionalMatchersAndStubbed.findNumberOfShipsInRangeByCriteria(matchingCriteria);
+    }
+
+    private static TacticalStation stubOnlyTacticalStation() {
+        return mock(TacticalStation.class, withSettings().stubOnly());
+    }
+
+    private static class MinimumRangeAbove1000 implements ArgumentMatcher<ShipSearchCriteria> {
+        @Override
+        public boolean matches(ShipSearchCriteria criteria) {
+            return criteria.getMinimumRange() > 1000;
+        }
+    }
+}
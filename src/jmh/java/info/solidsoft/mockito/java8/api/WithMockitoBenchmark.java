@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8.api;
+
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of calling Mockito through {@link WithMockito} and {@link WithBDDMockito} default methods in comparison to static methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WithMockitoBenchmark implements WithBDDMockito {
+
+    private TacticalStation ts;
+
+    @Setup
+    public void setUp() {
+        ts = Mockito.mock(TacticalStation.class);
+    }
+
+    @Benchmark
+    public void staticMockitoVerification() {
+        ts.fireTorpedo(2);
+        Mockito.verify(ts).fireTorpedo(ArgumentMatchers.anyInt());
+        Mockito.clearInvocations(ts);
+    }
+
+    @Benchmark
+    public void withMockitoVerification() {
+        ts.fireTorpedo(2);
+        verify(ts).fireTorpedo(anyInt());
+        Mockito.clearInvocations(ts);
+    }
+
+    @Benchmark
+    public void staticBDDMockitoVerification() {
+        ts.fireTorpedo(2);
+        BDDMockito.then(ts).should().fireTorpedo(ArgumentMatchers.anyInt());
+        Mockito.clearInvocations(ts);
+    }
+
+    @Benchmark
+    public void withBDDMockitoVerification() {
+        ts.fireTorpedo(2);
+        then(ts).should().fireTorpedo(anyInt());
+        Mockito.clearInvocations(ts);
+    }
+}
@@ -10,6 +10,9 @@ import org.mockito.Incubating;
 import org.mockito.Mockito;
 
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 
 /**
  * Allows creating inlined ArgumentCaptor with a lambda expression.
@@ -49,18 +52,32 @@ import java.util.function.Consumer;
 @SuppressWarnings("WeakerAccess")
 public class AssertionMatcher<T> implements ArgumentMatcher<T> {
 
-    private static final LambdaAwareHandyReturnValues handyReturnValues = new LambdaAwareHandyReturnValues();
+    private static final LambdaAwareHandyReturnValues handyReturnValues = LambdaAwareHandyReturnValues.SHARED;
 
     private final Consumer<T> consumer;
-    private String errorMessage;
+    private volatile String errorMessage;
+    private final MatcherProfiler.Profile profile;
 
     private AssertionMatcher(Consumer<T> consumer) {
         this.consumer = consumer;
+        this.profile = MatcherProfiler.profileForNewMatcher("assertArg");
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public boolean matches(T argument) {
+        if (MatcherProfiler.ENABLED) {
+            long startTime = System.nanoTime();
+            try {
+                return evaluate(argument);
+            } finally {
+                profile.record(startTime);
+            }
+        }
+        return evaluate(argument);
+    }
+
+    private boolean evaluate(T argument) {
         try {
             consumer.accept(argument);
             return true;
@@ -89,6 +106,92 @@ public class AssertionMatcher<T> implements ArgumentMatcher<T> {
         return handyReturnValues.returnForConsumerLambdaChecked(throwingConsumer);
     }
 
+    /**
+     * Returns a number of lambda argument types (resolved to return a safe value from {@code assertArg()} and its variants) taken
+     * from a cache shared by all matchers, i.e. without resolving a lambda type with TypeTools again.
+     */
+    @Incubating
+    public static long getArgumentTypeCacheHitCount() {
+        return LambdaAwareHandyReturnValues.SHARED.getCacheHitCount();
+    }
+
+    /**
+     * Returns a number of lambda argument types resolved with TypeTools (once per lambda class).
+     */
+    @Incubating
+    public static long getArgumentTypeCacheMissCount() {
+        return LambdaAwareHandyReturnValues.SHARED.getCacheMissCount();
+    }
+
+    /**
+     * A variant of assertArg(Consumer) for int arguments. As a safe return value is known statically, the lambda type does not
+     * need to be resolved (with TypeTools) and the argument is passed to the lambda unboxed.
+     */
+    @Incubating
+    public static int assertIntArg(IntConsumer consumer) {
+        return Mockito.intThat(new AssertionMatcher<>(consumer::accept));
+    }
+
+    /**
+     * A variant of assertArg(Consumer) for long arguments.
+     *
+     * @see #assertIntArg(IntConsumer)
+     */
+    @Incubating
+    public static long assertLongArg(LongConsumer consumer) {
+        return Mockito.longThat(new AssertionMatcher<>(consumer::accept));
+    }
+
+    /**
+     * A variant of assertArg(Consumer) for double arguments.
+     *
+     * @see #assertIntArg(IntConsumer)
+     */
+    @Incubating
+    public static double assertDoubleArg(DoubleConsumer consumer) {
+        return Mockito.doubleThat(new AssertionMatcher<>(consumer::accept));
+    }
+
+    /**
+     * A variant of assertArg(Consumer) for boolean arguments.
+     *
+     * @see #assertIntArg(IntConsumer)
+     */
+    @Incubating
+    public static boolean assertBooleanArg(BooleanConsumer consumer) {
+        return Mockito.booleanThat(new AssertionMatcher<>(consumer::accept));
+    }
+
+    /**
+     * A variant of assertArg(Consumer) for char arguments.
+     *
+     * @see #assertIntArg(IntConsumer)
+     */
+    @Incubating
+    public static char assertCharArg(CharConsumer consumer) {
+        return Mockito.charThat(new AssertionMatcher<>(consumer::accept));
+    }
+
+    /**
+     * A variant of assertArg(Consumer) for short arguments.
+     *
+     * @see #assertIntArg(IntConsumer)
+     */
+    @Incubating
+    public static short assertShortArg(ShortConsumer consumer) {
+        return Mockito.shortThat(new AssertionMatcher<>(consumer::accept));
+    }
+
+    /**
+     * A variant of assertArg(Consumer) for byte arguments.
+     *
+     * @see #assertIntArg(IntConsumer)
+     */
+    @Incubating
+    public static byte assertByteArg(ByteConsumer consumer) {
+        return Mockito.byteThat(new AssertionMatcher<>(consumer::accept));
+    }
+
     @SuppressWarnings("ResultOfMethodCallIgnored")
     private static <T> void argThat(Consumer<T> consumer) {
         Mockito.argThat(new AssertionMatcher<>(consumer));
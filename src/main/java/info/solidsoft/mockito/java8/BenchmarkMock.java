@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.ArgumentMatcher;
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.internal.util.Primitives;
+import org.mockito.invocation.Invocation;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.invocation.MatchableInvocation;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.Stubbing;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Creates mocks intended to be used as collaborators in (e.g. JMH) benchmarks of production code, where a regular mock call
+ * (recording an invocation, capturing its location, evaluating matchers of all stubbings) would dominate the measurements:
+ *
+ * <pre class="code"><code class="java">
+ *   TacticalStation ts = benchmarkMock(TacticalStation.class, template -&gt; {
+ *       given(template.getNumberOfTubes()).willReturn(4);
+ *       given(template.getTubeStatus(1)).willReturn(TubeStatus.LOADED);
+ *   });
+ * </code></pre>
+ *
+ * Stubbing is performed as usual, on a "stub only" template mock. Then every stubbing is converted into an entry of a lookup
+ * table - its answer is executed once (precomputed) and its value (or exception) is returned for every call with equal arguments.
+ * Calls not matching any stubbing return a default value ({@code 0}, {@code false} or {@code null}).
+ * <p>
+ * For interfaces a lightweight JDK proxy not related to Mockito is returned, so a call does not record an invocation nor capture
+ * a stack trace. For classes a "stub only" Mockito mock with the lookup table as a default answer is created, which skips
+ * matching stubbings, but still pays the Mockito invocation handling cost.
+ * <p>
+ * Limitations: only stubbing with fixed arguments (no matchers other than {@code eq()}) is supported, consecutive answers are
+ * not supported (the first one is used), methods with varargs cannot be stubbed and verification is not possible.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class BenchmarkMock {
+
+    private BenchmarkMock() {
+    }
+
+    public static <T> T benchmarkMock(Class<T> classToMock, Consumer<T> stubbing) {
+        T template = Mockito.mock(classToMock, Mockito.withSettings().stubOnly());
+        stubbing.accept(template);
+        AnswerTable answerTable = AnswerTable.precomputeFrom(classToMock, Mockito.mockingDetails(template).getStubbings());
+        if (classToMock.isInterface()) {
+            return classToMock.cast(Proxy.newProxyInstance(classToMock.getClassLoader(), new Class<?>[]{classToMock},
+                    (proxy, method, arguments) -> answerTable.answerFor(proxy, method, arguments)));
+        } else {
+            return Mockito.mock(classToMock, Mockito.withSettings().stubOnly().defaultAnswer(answerTable));
+        }
+    }
+
+    private static class AnswerTable implements Answer<Object> {
+
+        //a type of matchers created by Mockito for arguments passed without matchers (or with eq()), found with public API only
+        private static final Class<?> FIXED_ARGUMENT_MATCHER_TYPE = fixedArgumentMatcherType();
+
+        private final Class<?> mockedType;
+        private final Map<Method, MethodAnswers> methodAnswers;
+
+        private AnswerTable(Class<?> mockedType, Map<Method, MethodAnswers> methodAnswers) {
+            this.mockedType = mockedType;
+            this.methodAnswers = methodAnswers;
+        }
+
+        private static Class<?> fixedArgumentMatcherType() {
+            FixedArgumentProbe probe = Mockito.mock(FixedArgumentProbe.class, Mockito.withSettings().stubOnly());
+            Mockito.doNothing().when(probe).call("fixed");
+            Stubbing stubbing = Mockito.mockingDetails(probe).getStubbings().iterator().next();
+            return matchersOf(stubbing).get(0).getClass();
+        }
+
+        private static AnswerTable precomputeFrom(Class<?> mockedType, Iterable<Stubbing> stubbings) {
+            Map<Method, MethodAnswers> methodAnswers = new HashMap<>();
+            for (Stubbing stubbing : stubbings) {   //in order of stubbing - a later stubbing overrides an earlier one
+                Invocation invocation = stubbing.getInvocation();
+                verifyHasFixedArguments(stubbing);
+                methodAnswers.computeIfAbsent(invocation.getMethod(), MethodAnswers::new)
+                        .put(invocation.getArguments(), precomputedAnswerOf(stubbing));
+            }
+            return new AnswerTable(mockedType, methodAnswers);
+        }
+
+        private static void verifyHasFixedArguments(Stubbing stubbing) {
+            if (stubbing.getInvocation().getMethod().isVarArgs()) {
+                throw new MockitoException("Stubbing of methods with varargs is not supported in a benchmark mock, but was: " + stubbing);
+            }
+            for (ArgumentMatcher<?> matcher : matchersOf(stubbing)) {
+                if (!FIXED_ARGUMENT_MATCHER_TYPE.isInstance(matcher)) {     //also a subtype used for arrays
+                    throw new MockitoException("Only stubbing with fixed arguments is supported in a benchmark mock, but was: " + stubbing);
+                }
+            }
+        }
+
+        @SuppressWarnings("rawtypes")    //raw type returned by MatchableInvocation
+        private static List<ArgumentMatcher> matchersOf(Stubbing stubbing) {
+            if (!(stubbing instanceof MatchableInvocation)) {   //not expected with the supported Mockito versions
+                throw new MockitoException("Argument matchers of stubbing cannot be verified in a benchmark mock with this Mockito version, " +
+                        "as stubbing does not implement " + MatchableInvocation.class.getSimpleName() + ": " + stubbing);
+            }
+            return ((MatchableInvocation) stubbing).getMatchers();
+        }
+
+        private static PrecomputedAnswer precomputedAnswerOf(Stubbing stubbing) {
+            try {
+                return new PrecomputedAnswer(stubbing.answer(stubbing.getInvocation()), null);
+            } catch (Throwable throwable) {
+                return new PrecomputedAnswer(null, throwable);
+            }
+        }
+
+        @Override
+        public Object answer(InvocationOnMock invocation) throws Throwable {
+            return answerFor(invocation.getMock(), invocation.getMethod(), invocation.getArguments());
+        }
+
+        private Object answerFor(Object mock, Method method, Object[] arguments) throws Throwable {
+            MethodAnswers answers = methodAnswers.get(method);
+            if (answers != null) {
+                PrecomputedAnswer answer = answers.get(arguments);
+                if (answer != null) {
+                    return answer.get();
+                }
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethodAnswerFor(mock, method, arguments);
+            }
+            return Primitives.defaultValue(method.getReturnType());
+        }
+
+        private Object objectMethodAnswerFor(Object mock, Method method, Object[] arguments) {
+            switch (method.getName()) {
+                case "equals":
+                    return mock == arguments[0];
+                case "hashCode":
+                    return System.identityHashCode(mock);
+                case "toString":
+                    return "Benchmark mock for " + mockedType.getName();
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * Answers for calls of a single method. A single argument is looked up in a hash map, multiple arguments (rarely stubbed
+     * with many combinations) are compared with answers in turn - no key object is allocated for a lookup. Please note, that
+     * a call still allocates an arguments array (created by a JDK proxy or Mockito) and boxes primitive arguments.
+     */
+    private static class MethodAnswers {
+
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+
+        private final boolean singleArgument;
+        private final Map<Object, PrecomputedAnswer> singleArgumentAnswers = new HashMap<>();
+        private final List<Object[]> argumentsList = new ArrayList<>();
+        private final List<PrecomputedAnswer> answersList = new ArrayList<>();
+
+        private MethodAnswers(Method method) {
+            this.singleArgument = method.getParameterCount() == 1 && !method.getParameterTypes()[0].isArray();
+        }
+
+        private void put(Object[] arguments, PrecomputedAnswer answer) {
+            if (singleArgument) {
+                singleArgumentAnswers.put(arguments[0], answer);
+                return;
+            }
+            for (int i = 0; i < argumentsList.size(); i++) {
+                if (Arrays.deepEquals(argumentsList.get(i), arguments)) {
+                    answersList.set(i, answer);
+                    return;
+                }
+            }
+            argumentsList.add(arguments);
+            answersList.add(answer);
+        }
+
+        private PrecomputedAnswer get(Object[] arguments) {
+            if (singleArgument) {
+                return singleArgumentAnswers.get(arguments[0]);
+            }
+            Object[] nonNullArguments = arguments != null ? arguments : NO_ARGUMENTS;    //JDK proxy passes null for no arguments
+            for (int i = 0; i < argumentsList.size(); i++) {
+                if (Arrays.deepEquals(argumentsList.get(i), nonNullArguments)) {
+                    return answersList.get(i);
+                }
+            }
+            return null;
+        }
+    }
+
+    private interface FixedArgumentProbe {
+
+        void call(Object argument);
+    }
+
+    private static class PrecomputedAnswer {
+
+        private final Object value;
+        private final Throwable throwable;
+
+        private PrecomputedAnswer(Object value, Throwable throwable) {
+            this.value = value;
+            this.throwable = throwable;
+        }
+
+        private Object get() throws Throwable {
+            if (throwable != null) {
+                throw throwable;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+/**
+ * A {@code boolean}-consuming primitive specialization of {@link java.util.function.Consumer} (not available in JDK).
+ *
+ * @see AssertionMatcher#assertBooleanArg(BooleanConsumer)
+ */
+@FunctionalInterface
+@Incubating
+public interface BooleanConsumer {
+
+    void accept(boolean value);
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * An argument captor with a fixed capacity keeping only the last N (or a random sample of N) arguments matching a predicate.
+ * It allows inspecting recent arguments in long running (e.g. concurrency) tests without collecting all of them:
+ *
+ * <pre class="code"><code class="java">
+ *   BoundedCaptor&lt;ShipSearchCriteria&gt; captor = BoundedCaptor.lastN(100, c -&gt; c.getNumberOfPhasers() &gt; 2);
+ *   captor.captureFrom(ts, TacticalStation::findNumberOfShipsInRangeByCriteria);
+ *   //or, if a call should be also stubbed
+ *   given(ts.findNumberOfShipsInRangeByCriteria(any(ShipSearchCriteria.class))).will(captor.capturing(invocation -&gt; 4));
+ *   //...
+ *   assertThat(captor.getValues()).allMatch(c -&gt; c.getMinimumRange() &lt; 2000);
+ * </code></pre>
+ *
+ * Arguments are stored in a preallocated array with lock-free writes, so a captor can be used by concurrently calling threads.
+ * Arguments are captured by an answer (see {@link StreamingCaptor}) - a predicate only decides what is kept.
+ * <p>
+ * Mockito itself records all invocations on a mock. To do not keep all arguments in memory a mock has to be created as
+ * "stub only" ({@code withSettings().stubOnly()}).
+ *
+ * @param <T> type of argument
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class BoundedCaptor<T> {
+
+    private final Predicate<T> predicate;
+    private final boolean reservoirSampling;
+    private final AtomicReferenceArray<T> buffer;
+    private final AtomicLong matchedCounter = new AtomicLong();
+
+    private BoundedCaptor(int capacity, Predicate<T> predicate, boolean reservoirSampling) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity has to be positive, but was " + capacity);
+        }
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.predicate = predicate;
+        this.reservoirSampling = reservoirSampling;
+    }
+
+    /**
+     * Creates a captor keeping the last {@code capacity} arguments matching a predicate.
+     */
+    public static <T> BoundedCaptor<T> lastN(int capacity, Predicate<T> predicate) {
+        return new BoundedCaptor<>(capacity, predicate, false);
+    }
+
+    /**
+     * Creates a captor keeping a uniform random sample (reservoir sampling) of {@code capacity} arguments matching a predicate.
+     */
+    public static <T> BoundedCaptor<T> reservoirSample(int capacity, Predicate<T> predicate) {
+        return new BoundedCaptor<>(capacity, predicate, true);
+    }
+
+    /**
+     * Stubs a given method to capture an argument of every call (see {@link StreamingCaptor#streamArgs}). A value returned
+     * from a call is provided with a default answer of a mock.
+     */
+    public <M> void captureFrom(M mockOrLazyHandle, SingleArgumentMethod<M, T> method) {
+        StreamingCaptor.streamArgs(mockOrLazyHandle, method, this::record);
+    }
+
+    /**
+     * Returns an answer capturing the first argument of a call before answering with a given answer
+     * (see {@link StreamingCaptor#captureFirstArgInto}).
+     */
+    public <R> Answer<R> capturing(Answer<R> answer) {
+        return StreamingCaptor.captureFirstArgInto(this::record, answer);
+    }
+
+    private void record(T argument) {
+        if (predicate.test(argument)) {
+            long index = matchedCounter.getAndIncrement();
+            if (!reservoirSampling) {
+                buffer.set((int) (index % buffer.length()), argument);
+            } else if (index < buffer.length()) {
+                buffer.set((int) index, argument);
+            } else {
+                long replacedIndex = ThreadLocalRandom.current().nextLong(index + 1);
+                if (replacedIndex < buffer.length()) {
+                    buffer.set((int) replacedIndex, argument);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns kept arguments - for {@link #lastN(int, Predicate)} from the oldest to the newest one.
+     * <p>
+     * Taken during concurrent calls, it is a best effort snapshot (some of the arguments can be already replaced with newer ones).
+     */
+    public List<T> getValues() {
+        long numberOfMatched = matchedCounter.get();
+        int size = (int) Math.min(numberOfMatched, buffer.length());
+        int oldestIndex = reservoirSampling ? 0 : (int) ((numberOfMatched - size) % buffer.length());
+        List<T> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(buffer.get((oldestIndex + i) % buffer.length()));
+        }
+        return values;
+    }
+
+    /**
+     * Returns a number of all arguments matching a predicate (also the ones which are no longer kept).
+     */
+    public long getMatchedCount() {
+        return matchedCounter.get();
+    }
+
+    @Override
+    public String toString() {
+        return "<Bounded captor>";
+    }
+}
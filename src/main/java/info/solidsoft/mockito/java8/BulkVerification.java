@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+import org.mockito.exceptions.base.MockitoAssertionError;
+import org.mockito.invocation.Invocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Verification of all invocations of a given method with a lambda expression, designed for mocks with a huge number of recorded
+ * invocations (e.g. in soak tests):
+ *
+ * <pre class="code"><code class="java">
+ *   bulkVerification().verifyAll(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -&gt; c.getMinimumRange() &lt; 2000);
+ *   bulkVerification().verifyCount(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -&gt; c.getNumberOfPhasers() &gt; 2, 1000);
+ * </code></pre>
+ *
+ * Invocations (taken from {@link Mockito#mockingDetails(Object)}) are evaluated with a parallel stream (in a common fork-join
+ * pool or a provided one) if their number reaches a parallelism threshold. Evaluation stops as soon as a result is known (the
+ * first invocation not matching in {@code verifyAll()}, more matching invocations than expected in {@code verifyCount()}).
+ * Successfully verified invocations are marked as verified (to work with {@code verifyNoMoreInteractions()}).
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class BulkVerification {
+
+    public static final int DEFAULT_PARALLELISM_THRESHOLD = 10_000;
+
+    private static final BulkVerification DEFAULT = new BulkVerification(DEFAULT_PARALLELISM_THRESHOLD, ForkJoinPool.commonPool());
+
+    private final int parallelismThreshold;
+    private final ForkJoinPool pool;
+
+    private BulkVerification(int parallelismThreshold, ForkJoinPool pool) {
+        this.parallelismThreshold = parallelismThreshold;
+        this.pool = pool;
+    }
+
+    public static BulkVerification bulkVerification() {
+        return DEFAULT;
+    }
+
+    /**
+     * Sets a minimal number of invocations of a verified method to evaluate them in parallel.
+     */
+    public BulkVerification withParallelismThreshold(int parallelismThreshold) {
+        return new BulkVerification(parallelismThreshold, pool);
+    }
+
+    /**
+     * Sets a fork-join pool used to evaluate invocations in parallel.
+     */
+    public BulkVerification inPool(ForkJoinPool pool) {
+        return new BulkVerification(parallelismThreshold, pool);
+    }
+
+    /**
+     * Verifies that a given method was called at least once and an argument of every call matches a predicate.
+     */
+    public <M, A> void verifyAll(M mock, SingleArgumentMethod<M, A> method, Predicate<? super A> predicate) {
+        MethodReferences.ReferencedMethod referencedMethod = MethodReferences.referencedMethod(method);
+        List<Invocation> invocations = invocationsOf(mock, referencedMethod);
+        if (invocations.isEmpty()) {
+            throw new MockitoAssertionError("Wanted but not invoked: " + referencedMethod.getName() + "()");
+        }
+        Optional<Invocation> notMatchingInvocation = evaluate(invocations,
+                stream -> stream.filter(invocation -> !predicate.test(argumentOf(invocation))).findAny());
+        if (notMatchingInvocation.isPresent()) {
+            Invocation invocation = notMatchingInvocation.get();
+            throw new MockitoAssertionError("Argument of invocation does not match predicate:\n" + invocation + "\n" + invocation.getLocation());
+        }
+        invocations.forEach(Invocation::markVerified);
+    }
+
+    /**
+     * Verifies that an argument of exactly {@code wantedNumberOfInvocations} calls of a given method matches a predicate.
+     */
+    public <M, A> void verifyCount(M mock, SingleArgumentMethod<M, A> method, Predicate<? super A> predicate, long wantedNumberOfInvocations) {
+        MethodReferences.ReferencedMethod referencedMethod = MethodReferences.referencedMethod(method);
+        List<Invocation> invocations = invocationsOf(mock, referencedMethod);
+        long numberOfMatchingInvocations = evaluate(invocations, stream -> stream
+                .filter(invocation -> predicate.test(argumentOf(invocation)))
+                .unordered()
+                .limit(wantedNumberOfInvocations + 1)   //no need to look further
+                .peek(Invocation::markVerified)
+                .count());
+        if (numberOfMatchingInvocations != wantedNumberOfInvocations) {
+            throw new MockitoAssertionError(String.format("%s() with argument matching predicate:\nWanted %d time(s), but was %s",
+                    referencedMethod.getName(), wantedNumberOfInvocations,
+                    numberOfMatchingInvocations > wantedNumberOfInvocations ? "more than " + wantedNumberOfInvocations : String.valueOf(numberOfMatchingInvocations)));
+        }
+    }
+
+    private static List<Invocation> invocationsOf(Object mock, MethodReferences.ReferencedMethod referencedMethod) {
+        return Mockito.mockingDetails(LazyMocks.unwrap(mock)).getInvocations().stream()
+                .filter(invocation -> referencedMethod.isSameAs(invocation.getMethod()))
+                .collect(Collectors.toCollection(ArrayList::new));  //random access list is split efficiently in a parallel stream
+    }
+
+    private <R> R evaluate(List<Invocation> invocations, Function<Stream<Invocation>, R> evaluation) {
+        if (invocations.size() < parallelismThreshold) {
+            return evaluation.apply(invocations.stream());
+        }
+        //parallel stream started from a fork-join pool task is executed in that pool
+        return pool.submit(() -> evaluation.apply(invocations.parallelStream())).join();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> A argumentOf(Invocation invocation) {
+        return (A) invocation.getRawArguments()[0];
+    }
+}
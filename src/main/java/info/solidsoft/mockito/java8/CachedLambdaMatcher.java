@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.ArgumentMatcher;
+import org.mockito.Incubating;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static org.mockito.ArgumentMatchers.argThat;
+
+/**
+ * A variant of {@link LambdaMatcher} remembering a predicate result for every (non null) argument instance. Mockito can evaluate
+ * the same matcher for the same argument several times (stubbing lookup, potential stubbing problem detection, verification,
+ * building an error message), which matters for expensive predicates (e.g. parsing a payload or walking a large object graph):
+ *
+ * <pre class="code"><code class="java">
+ *   given(parser.process(argLambdaCached(request -&gt; parse(request).isValid()))).willReturn(OK);
+ * </code></pre>
+ *
+ * Arguments are compared by identity and are weakly referenced - they are not kept in memory by the cache. The cache belongs
+ * to a matcher, so it is discarded together with stubbings when a mock is reset. A matcher created explicitly with
+ * {@link #cachedLambda(Predicate, String)} can be also cleared manually with {@link #clearCache()} and provides a number of
+ * evaluations saved by the cache.
+ * <p>
+ * As cached results are reused, a predicate should be deterministic and should not depend on a mutable argument state.
+ *
+ * @param <T> type of argument
+ *
+ * @see LambdaMatcher
+ * @since 2.6.0
+ */
+@Incubating
+public class CachedLambdaMatcher<T> implements ArgumentMatcher<T> {
+
+    private final Predicate<T> lambda;
+    private final String description;
+    private final WeakIdentityResults results = new WeakIdentityResults();
+    private final LongAdder savedEvaluations = new LongAdder();
+
+    private CachedLambdaMatcher(Predicate<T> lambda, String description) {
+        this.lambda = lambda;
+        this.description = description;
+    }
+
+    @Override
+    public boolean matches(T argument) {
+        if (argument == null) {
+            return lambda.test(null);
+        }
+        Boolean cachedResult = results.get(argument);
+        if (cachedResult != null) {
+            savedEvaluations.increment();
+            return cachedResult;
+        }
+        boolean result = lambda.test(argument);
+        results.put(argument, result);
+        return result;
+    }
+
+    /**
+     * Returns a number of predicate evaluations saved thanks to cached results.
+     */
+    public long getSavedEvaluationCount() {
+        return savedEvaluations.sum();
+    }
+
+    public void clearCache() {
+        results.clear();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    public static <T> T argLambdaCached(Predicate<T> lambda) {
+        return argLambdaCached(lambda, LambdaMatcher.DEFAULT_DESCRIPTION);
+    }
+
+    public static <T> T argLambdaCached(Predicate<T> lambda, String description) {
+        return argThat(cachedLambda(lambda, description));
+    }
+
+    /**
+     * Creates a matcher to be used with {@code argThat()} when it is needed to keep a reference to it (e.g. to read statistics).
+     */
+    public static <T> CachedLambdaMatcher<T> cachedLambda(Predicate<T> lambda, String description) {
+        return new CachedLambdaMatcher<>(lambda, description);
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+/**
+ * A {@code char}-consuming primitive specialization of {@link java.util.function.Consumer} (not available in JDK).
+ *
+ * @see AssertionMatcher#assertCharArg(CharConsumer)
+ */
+@FunctionalInterface
+@Incubating
+public interface CharConsumer {
+
+    void accept(char value);
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.ArgumentMatcher;
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A variant of {@link AssertionMatcher} reporting failures of all verified invocations (not only the last one):
+ *
+ * <pre class="code"><code class="java">
+ *   verify(ts, times(10_000)).findNumberOfShipsInRangeByCriteria(
+ *       assertEveryArg(sc -&gt; assertThat(sc.getMinimumRange()).isLessThan(2000)));
+ * </code></pre>
+ *
+ * An assertion is performed only once for a given argument instance (including {@code null}) - a result is remembered (in
+ * a weak identity map), so Mockito re-evaluating the matcher to build its report does not re-run (potentially expensive)
+ * assertions. As a matcher does not know an invocation being matched, the same argument instance passed in several calls is
+ * also asserted (and its failure is reported and counted) only once. Only a bounded
+ * number of failure messages (10 by default) is kept, the remaining failures are only counted.
+ *
+ * @param <T> type of argument
+ *
+ * @see AssertionMatcher
+ * @since 2.6.0
+ */
+@Incubating
+public class CollectingAssertionMatcher<T> implements ArgumentMatcher<T> {
+
+    public static final int DEFAULT_MAX_REPORTED_FAILURES = 10;
+
+    private static final LambdaAwareHandyReturnValues handyReturnValues = LambdaAwareHandyReturnValues.SHARED;
+
+    private final Consumer<T> consumer;
+    private final int maxReportedFailures;
+    private final WeakIdentityResults results = new WeakIdentityResults();
+    private final Queue<String> reportedFailures = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger failureCounter = new AtomicInteger();
+
+    private CollectingAssertionMatcher(Consumer<T> consumer, int maxReportedFailures) {
+        this.consumer = consumer;
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    @Override
+    public boolean matches(T argument) {
+        Boolean result = results.get(argument);
+        if (result == null) {
+            result = assertArgument(argument);
+            results.put(argument, result);
+        }
+        return result;
+    }
+
+    private boolean assertArgument(T argument) {
+        try {
+            consumer.accept(argument);
+            return true;
+        } catch (AssertionError e) {
+            if (failureCounter.incrementAndGet() <= maxReportedFailures) {
+                reportedFailures.add("for argument " + argument + ": " + e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        int numberOfFailures = failureCounter.get();
+        StringBuilder description = new StringBuilder("AssertionMatcher reported ").append(numberOfFailures).append(" failure(s)");
+        if (numberOfFailures > maxReportedFailures) {
+            description.append(" (first ").append(maxReportedFailures).append(" shown)");
+        }
+        description.append(':');
+        reportedFailures.forEach(failure -> description.append("\n - ").append(failure));
+        return description.toString();
+    }
+
+    public static <T> T assertEveryArg(Consumer<T> consumer) {
+        return assertEveryArg(consumer, DEFAULT_MAX_REPORTED_FAILURES);
+    }
+
+    /**
+     * A variant of assertEveryArg(Consumer) with a custom limit of failure messages kept for a report.
+     */
+    public static <T> T assertEveryArg(Consumer<T> consumer, int maxReportedFailures) {
+        argThat(consumer, maxReportedFailures);
+        return handyReturnValues.returnForConsumerLambda(consumer);
+    }
+
+    /**
+     * A variant of assertEveryArg(Consumer) for lambdas declaring checked exceptions.
+     */
+    public static <T> T assertEveryArgThrowing(ThrowingConsumer<T> throwingConsumer) {
+        argThat(throwingConsumer.uncheck(), DEFAULT_MAX_REPORTED_FAILURES);
+        return handyReturnValues.returnForConsumerLambdaChecked(throwingConsumer);
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private static <T> void argThat(Consumer<T> consumer, int maxReportedFailures) {
+        Mockito.argThat(new CollectingAssertionMatcher<>(consumer, maxReportedFailures));
+    }
+}
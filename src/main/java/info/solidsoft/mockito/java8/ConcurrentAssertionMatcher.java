@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.ArgumentMatcher;
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe variant of {@link AssertionMatcher} to be used when a verified mock can be still called from other threads, e.g.
+ * in verification with {@code timeout()}:
+ *
+ * <pre class="code"><code class="java">
+ *   verify(ts, timeout(500).times(10)).findNumberOfShipsInRangeByCriteria(
+ *       assertArgConcurrently(sc -&gt; assertThat(sc.getMinimumRange()).isLessThan(2000)));
+ * </code></pre>
+ *
+ * Instead of one shared (last) error message, assertion failures are kept separately for every verified argument (compared by
+ * identity, which in practice means per invocation). A failure message reported for a given argument always comes from
+ * the assertion performed on that argument. The failures are stored in a {@link ConcurrentHashMap}, so no lock is taken when
+ * a matcher is evaluated.
+ *
+ * @param <T> type of argument
+ *
+ * @see AssertionMatcher
+ * @since 2.6.0
+ */
+@Incubating
+public class ConcurrentAssertionMatcher<T> implements ArgumentMatcher<T> {
+
+    private static final LambdaAwareHandyReturnValues handyReturnValues = LambdaAwareHandyReturnValues.SHARED;
+
+    private final Consumer<T> consumer;
+    private final Map<ArgumentIdentity, String> errorMessages = new ConcurrentHashMap<>();
+
+    ConcurrentAssertionMatcher(Consumer<T> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public boolean matches(T argument) {
+        ArgumentIdentity argumentIdentity = new ArgumentIdentity(argument);
+        try {
+            consumer.accept(argument);
+            errorMessages.remove(argumentIdentity);     //argument could be modified since the previous evaluation
+            return true;
+        } catch (AssertionError e) {
+            errorMessages.put(argumentIdentity, String.valueOf(e.getMessage()));
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder("AssertionMatcher reported ");
+        if (errorMessages.isEmpty()) {
+            return description.append("no failures").toString();
+        }
+        description.append(errorMessages.size()).append(" failure(s):");
+        errorMessages.forEach((argumentIdentity, errorMessage) -> description
+                .append("\n - for argument ").append(argumentIdentity.argument).append(": ").append(errorMessage));
+        return description.toString();
+    }
+
+    public static <T> T assertArgConcurrently(Consumer<T> consumer) {
+        argThat(consumer);
+        return handyReturnValues.returnForConsumerLambda(consumer);
+    }
+
+    /**
+     * A variant of assertArgConcurrently(Consumer) for lambdas declaring checked exceptions.
+     */
+    public static <T> T assertArgConcurrentlyThrowing(ThrowingConsumer<T> throwingConsumer) {
+        argThat(throwingConsumer.uncheck());
+        return handyReturnValues.returnForConsumerLambdaChecked(throwingConsumer);
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private static <T> void argThat(Consumer<T> consumer) {
+        Mockito.argThat(new ConcurrentAssertionMatcher<>(consumer));
+    }
+
+    private static class ArgumentIdentity {
+
+        private final Object argument;
+
+        private ArgumentIdentity(Object argument) {
+            this.argument = argument;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ArgumentIdentity && ((ArgumentIdentity) o).argument == argument;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(argument);
+        }
+    }
+}
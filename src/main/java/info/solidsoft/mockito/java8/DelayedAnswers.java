@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.ValidableAnswer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Answers simulating latency of a mocked (e.g. downstream) service, useful in load tests:
+ *
+ * <pre class="code"><code class="java">
+ *   given(registry.findShipNameAsync(anyInt())).willAnswer(answerAfter(logNormal(ofMillis(20), 0.5), invocation -&gt; "Enterprise"));
+ *   given(registry.findShipName(anyInt())).willAnswer(answerAfterBlocking(ofMillis(20), invocation -&gt; "Enterprise"));
+ * </code></pre>
+ *
+ * For methods returning {@link CompletableFuture} (or {@link java.util.concurrent.CompletionStage}) a given answer is called
+ * immediately and a returned future is completed with its result after a delay by a shared scheduler thread - no thread is
+ * blocked per pending call. As dependent stages not executed asynchronously run in the completing thread, an async pipeline under
+ * test should use {@code *Async()} stages for any heavier processing.
+ * <p>
+ * The blocking variant parks a calling thread with {@link LockSupport#parkNanos(long)} (which is cheap for virtual threads on
+ * JDKs providing them) and then calls a given answer. An interrupted thread stops waiting (with its interrupted status kept).
+ *
+ * @see LatencyDistribution
+ * @since 2.6.0
+ */
+@Incubating
+public class DelayedAnswers {
+
+    private DelayedAnswers() {
+    }
+
+    public static <T> Answer<CompletableFuture<T>> answerAfter(Duration latency, Answer<T> answer) {
+        return answerAfter(LatencyDistribution.fixed(latency), answer);
+    }
+
+    /**
+     * Returns a future completed with a result of a given answer after a latency taken from a given distribution.
+     */
+    public static <T> Answer<CompletableFuture<T>> answerAfter(LatencyDistribution latencyDistribution, Answer<T> answer) {
+        return FutureAnswers.futureAnswer(new DelayedFutureAnswer<>(latencyDistribution, answer));
+    }
+
+    public static <T> Answer<T> answerAfterBlocking(Duration latency, Answer<T> answer) {
+        return answerAfterBlocking(LatencyDistribution.fixed(latency), answer);
+    }
+
+    /**
+     * Blocks a calling thread for a latency taken from a given distribution and returns a result of a given answer.
+     */
+    public static <T> Answer<T> answerAfterBlocking(LatencyDistribution latencyDistribution, Answer<T> answer) {
+        return new BlockingDelayedAnswer<>(latencyDistribution, answer);
+    }
+
+    private static class DelayedFutureAnswer<T> implements Answer<CompletableFuture<T>>, ValidableAnswer {
+
+        private final LatencyDistribution latencyDistribution;
+        private final Answer<T> answer;
+
+        private DelayedFutureAnswer(LatencyDistribution latencyDistribution, Answer<T> answer) {
+            this.latencyDistribution = latencyDistribution;
+            this.answer = answer;
+        }
+
+        @Override
+        public CompletableFuture<T> answer(InvocationOnMock invocation) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            T result;
+            try {
+                result = answer.answer(invocation);
+            } catch (Throwable throwable) {
+                SharedScheduler.INSTANCE.schedule(() -> future.completeExceptionally(throwable), latencyDistribution.nextLatencyNanos(), TimeUnit.NANOSECONDS);
+                return future;
+            }
+            SharedScheduler.INSTANCE.schedule(() -> future.complete(result), latencyDistribution.nextLatencyNanos(), TimeUnit.NANOSECONDS);
+            return future;
+        }
+
+        @Override
+        public void validateFor(InvocationOnMock invocation) {
+            if (answer instanceof ValidableAnswer) {
+                ((ValidableAnswer) answer).validateFor(invocation);
+            }
+        }
+    }
+
+    private static class BlockingDelayedAnswer<T> implements Answer<T>, ValidableAnswer {
+
+        private final LatencyDistribution latencyDistribution;
+        private final Answer<T> answer;
+
+        private BlockingDelayedAnswer(LatencyDistribution latencyDistribution, Answer<T> answer) {
+            this.latencyDistribution = latencyDistribution;
+            this.answer = answer;
+        }
+
+        @Override
+        public T answer(InvocationOnMock invocation) throws Throwable {
+            long deadline = System.nanoTime() + latencyDistribution.nextLatencyNanos();
+            long remainingNanos;
+            while ((remainingNanos = deadline - System.nanoTime()) > 0) {    //parkNanos() can return spuriously
+                if (Thread.currentThread().isInterrupted()) {
+                    break;  //an interrupted status is kept to be handled by a caller
+                }
+                LockSupport.parkNanos(remainingNanos);
+            }
+            return answer.answer(invocation);
+        }
+
+        @Override
+        public void validateFor(InvocationOnMock invocation) {
+            if (answer instanceof ValidableAnswer) {
+                ((ValidableAnswer) answer).validateFor(invocation);
+            }
+        }
+    }
+
+    /**
+     * A lazily created scheduler with one daemon thread (which only completes futures) shared by all delayed answers.
+     */
+    private static class SharedScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = createScheduler();
+
+        private static ScheduledExecutorService createScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "mockito-java8-delayed-answers");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.BDDMockito;
+import org.mockito.Incubating;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Allows replacing many stubbings of the same method (with different lambda matchers) with one Answer dispatching to the first
+ * rule which predicate matches an argument.
+ * <p>
+ * Instead of:
+ *
+ * <pre class="code"><code class="java">
+ *   given(ts.findNumberOfShipsInRangeByCriteria(argLambda(c -&gt; c.getMinimumRange() &gt; 1000))).willReturn(4);
+ *   given(ts.findNumberOfShipsInRangeByCriteria(argLambda(c -&gt; c.getMinimumRange() &gt; 500))).willReturn(2);
+ *   //...
+ * </code></pre>
+ *
+ * where Mockito evaluates every stubbing (starting from the last one) on every call, the rules can be defined in one table:
+ *
+ * <pre class="code"><code class="java">
+ *   DispatchAnswer&lt;ShipSearchCriteria, Integer&gt; rangeTable = givenTable(ts.findNumberOfShipsInRangeByCriteria(any()));
+ *   rangeTable
+ *       .rule(c -&gt; c.getMinimumRange() &gt; 1000, "minimum range above 1000", 4)
+ *       .rule(c -&gt; c.getMinimumRange() &gt; 500, "minimum range above 500", 2)
+ *       .otherwise(0);
+ * </code></pre>
+ *
+ * Rules are evaluated in a definition order (the first matching rule wins). If rules are mutually exclusive, the evaluation order
+ * can be changed with {@link #cheapFirst()} to evaluate rules with the lowest cost hint (see {@link #withCost(int)}) first.
+ * A number of hits of every rule is counted and can be read with {@link #getHitCount(int)}.
+ * <p>
+ * If no rule matches and there is no fallback defined (with {@link #otherwise(Object)}), a MockitoException with rules
+ * descriptions is thrown.
+ *
+ * @param <A> type of dispatched argument
+ * @param <R> type of returned value
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class DispatchAnswer<A, R> implements Answer<R> {
+
+    private volatile Rule<A, R>[] rules = newRulesArray(0);
+    private volatile Rule<A, R>[] rulesInEvaluationOrder = rules;
+    private volatile boolean cheapFirst;
+    private volatile int argumentIndex;
+    private volatile Answer<? extends R> fallbackAnswer;
+    private final LongAdder unmatchedCounter = new LongAdder();
+
+    /**
+     * Creates an empty dispatch table which can be used with {@code willAnswer()}/{@code doAnswer()}.
+     */
+    public static <A, R> DispatchAnswer<A, R> dispatchTable() {
+        return new DispatchAnswer<>();
+    }
+
+    /**
+     * Stubs a given method call with an empty dispatch table (BDD style). Rules can be added to a returned table.
+     */
+    public static <A, R> DispatchAnswer<A, R> givenTable(R methodCall) {
+        DispatchAnswer<A, R> dispatchAnswer = dispatchTable();
+        BDDMockito.given(methodCall).willAnswer(dispatchAnswer);
+        return dispatchAnswer;
+    }
+
+    /**
+     * Dispatches on an argument with a given index instead of the first one.
+     */
+    public DispatchAnswer<A, R> onArgumentAt(int argumentIndex) {
+        this.argumentIndex = argumentIndex;
+        return this;
+    }
+
+    public DispatchAnswer<A, R> rule(Predicate<? super A> condition, R returnValue) {
+        return rule(condition, LambdaMatcher.DEFAULT_DESCRIPTION, returnValue);
+    }
+
+    public DispatchAnswer<A, R> rule(Predicate<? super A> condition, String description, R returnValue) {
+        return ruleAnswering(condition, description, argument -> returnValue);
+    }
+
+    /**
+     * Adds a rule which computes a returned value from a dispatched argument.
+     */
+    public DispatchAnswer<A, R> ruleAnswering(Predicate<? super A> condition, String description, Function<? super A, ? extends R> answer) {
+        Rule<A, R>[] extendedRules = Arrays.copyOf(rules, rules.length + 1);
+        extendedRules[rules.length] = new Rule<>(condition, description, answer);
+        rules = extendedRules;
+        refreshEvaluationOrder();
+        return this;
+    }
+
+    /**
+     * Sets a cost hint of the last added rule. Used only in the {@link #cheapFirst()} mode. Rules without a hint have cost 0.
+     */
+    public DispatchAnswer<A, R> withCost(int cost) {
+        if (rules.length == 0) {
+            throw new MockitoException("No rule to set cost for. Add a rule before calling withCost()");
+        }
+        rules[rules.length - 1].cost = cost;
+        refreshEvaluationOrder();
+        return this;
+    }
+
+    /**
+     * Evaluates rules with the lowest cost hint first (preserving a definition order for rules with the same cost).
+     * <p>
+     * As it breaks "the first defined rule wins" semantics, it should be only used if rules are mutually exclusive.
+     */
+    public DispatchAnswer<A, R> cheapFirst() {
+        cheapFirst = true;
+        refreshEvaluationOrder();
+        return this;
+    }
+
+    public DispatchAnswer<A, R> otherwise(R returnValue) {
+        return otherwiseAnswer(invocation -> returnValue);
+    }
+
+    public DispatchAnswer<A, R> otherwiseAnswer(Answer<? extends R> fallbackAnswer) {
+        this.fallbackAnswer = fallbackAnswer;
+        return this;
+    }
+
+    @Override
+    public R answer(InvocationOnMock invocation) throws Throwable {
+        A argument = invocation.getArgument(argumentIndex);
+        for (Rule<A, R> rule : rulesInEvaluationOrder) {
+            if (rule.condition.test(argument)) {
+                rule.hitCounter.increment();
+                return rule.answer.apply(argument);
+            }
+        }
+        unmatchedCounter.increment();
+        Answer<? extends R> fallbackAnswer = this.fallbackAnswer;
+        if (fallbackAnswer == null) {
+            throw new MockitoException("No rule of dispatch table matched argument: " + argument + "\n" + this);
+        }
+        return fallbackAnswer.answer(invocation);
+    }
+
+    /**
+     * Returns a number of calls answered by a rule with a given index (in the definition order).
+     */
+    public long getHitCount(int ruleIndex) {
+        return rules[ruleIndex].hitCounter.sum();
+    }
+
+    /**
+     * Returns a number of calls not matched by any rule.
+     */
+    public long getUnmatchedCount() {
+        return unmatchedCounter.sum();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder("Dispatch table with rules:");
+        for (Rule<A, R> rule : rulesInEvaluationOrder) {
+            description.append("\n - ").append(rule.description);
+        }
+        return description.toString();
+    }
+
+    private void refreshEvaluationOrder() {
+        Rule<A, R>[] evaluationOrder = rules.clone();
+        if (cheapFirst) {
+            Arrays.sort(evaluationOrder, Comparator.comparingInt(rule -> rule.cost));    //stable
+        }
+        rulesInEvaluationOrder = evaluationOrder;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})    //generic array creation
+    private static <A, R> Rule<A, R>[] newRulesArray(int size) {
+        return (Rule<A, R>[]) new Rule[size];
+    }
+
+    private static class Rule<A, R> {
+
+        private final Predicate<? super A> condition;
+        private final String description;
+        private final Function<? super A, ? extends R> answer;
+        private final LongAdder hitCounter = new LongAdder();
+        private volatile int cost;
+
+        private Rule(Predicate<? super A> condition, String description, Function<? super A, ? extends R> answer) {
+            this.condition = condition;
+            this.description = description;
+            this.answer = answer;
+        }
+    }
+}
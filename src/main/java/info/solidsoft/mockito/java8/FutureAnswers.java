@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.ValidableAnswer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Answers for methods returning {@link CompletableFuture} or {@link java.util.concurrent.CompletionStage}:
+ *
+ * <pre class="code"><code class="java">
+ *   given(registry.findShipNameAsync(1701)).willAnswer(completedWith("Enterprise"));
+ *   given(registry.findShipNameAsync(0)).willAnswer(completedExceptionallyWith(new IllegalArgumentException()));
+ *   given(registry.findShipNameAsync(anyInt())).willAnswer(completedOn(executor, (Integer number) -&gt; "NCC-" + number));
+ * </code></pre>
+ *
+ * A new future is created for every call (a returned future can be completed or obtruded by a caller). An asynchronous
+ * completion is scheduled on a provided executor (e.g. a small thread pool or a fork-join pool), so many pending calls do not
+ * require a thread each, and (with a multi-threaded executor) futures can complete in a different order than calls were made.
+ * <p>
+ * Answers verify a return type of a stubbed method (and parameter types of a lambda) when stubbing is created.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class FutureAnswers {
+
+    private FutureAnswers() {
+    }
+
+    /**
+     * Returns a future already completed with a given value.
+     */
+    public static <T> Answer<CompletableFuture<T>> completedWith(T value) {
+        return new FutureAnswer<>(invocation -> CompletableFuture.completedFuture(value));
+    }
+
+    /**
+     * Returns a future already completed exceptionally with a given throwable.
+     */
+    public static <T> Answer<CompletableFuture<T>> completedExceptionallyWith(Throwable throwable) {
+        return new FutureAnswer<>(invocation -> {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(throwable);
+            return future;
+        });
+    }
+
+    /**
+     * Returns a future completed with a value computed (synchronously) by a lambda taking an argument of a stubbed method.
+     */
+    public static <A, T> Answer<CompletableFuture<T>> completedWithResultOf(Function<A, T> lambda) {
+        return new FutureAnswer<>(LambdaAnswer.lambdaAnswer(lambda, Function.class,
+                invocation -> CompletableFuture.completedFuture(lambda.apply(invocation.getArgument(0)))));
+    }
+
+    /**
+     * Returns a future completed with a value provided by a supplier executed with a given executor.
+     */
+    public static <T> Answer<CompletableFuture<T>> completedOn(Executor executor, Supplier<T> supplier) {
+        return new FutureAnswer<>(invocation -> CompletableFuture.supplyAsync(supplier, executor));
+    }
+
+    /**
+     * Returns a future completed with a value computed by a lambda taking an argument of a stubbed method executed with a given executor.
+     */
+    public static <A, T> Answer<CompletableFuture<T>> completedOn(Executor executor, Function<A, T> lambda) {
+        return new FutureAnswer<>(LambdaAnswer.lambdaAnswer(lambda, Function.class, invocation -> {
+            A argument = invocation.getArgument(0);     //taken in a calling thread
+            return CompletableFuture.supplyAsync(() -> lambda.apply(argument), executor);
+        }));
+    }
+
+    /**
+     * Wraps an answer creating a future to verify a return type of a stubbed method.
+     */
+    static <T> Answer<CompletableFuture<T>> futureAnswer(Answer<CompletableFuture<T>> futureAnswer) {
+        return new FutureAnswer<>(futureAnswer);
+    }
+
+    private static class FutureAnswer<T> implements Answer<CompletableFuture<T>>, ValidableAnswer {
+
+        private final Answer<CompletableFuture<T>> futureAnswer;
+
+        private FutureAnswer(Answer<CompletableFuture<T>> futureAnswer) {
+            this.futureAnswer = futureAnswer;
+        }
+
+        @Override
+        public CompletableFuture<T> answer(InvocationOnMock invocation) throws Throwable {
+            return futureAnswer.answer(invocation);
+        }
+
+        @Override
+        public void validateFor(InvocationOnMock invocation) {
+            Class<?> returnType = invocation.getMethod().getReturnType();
+            if (!returnType.isAssignableFrom(CompletableFuture.class)) {
+                throw new MockitoException(String.format("Future answer can be only used for method returning CompletableFuture or CompletionStage, " +
+                        "but %s() returns %s", invocation.getMethod().getName(), returnType.getSimpleName()));
+            }
+            if (futureAnswer instanceof ValidableAnswer) {
+                ((ValidableAnswer) futureAnswer).validateFor(invocation);
+            }
+        }
+    }
+}
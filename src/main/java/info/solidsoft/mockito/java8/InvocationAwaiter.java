@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.MockSettings;
+import org.mockito.Mockito;
+import org.mockito.exceptions.base.MockitoAssertionError;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.invocation.Invocation;
+import org.mockito.listeners.StubbingLookupEvent;
+import org.mockito.listeners.StubbingLookupListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * An event-driven alternative to {@code verify(mock, timeout(...))} for asynchronous tests. Instead of polling (and
+ * re-evaluating matchers for all recorded invocations every few milliseconds) a verifying thread is woken up as soon as
+ * a matching invocation arrives:
+ *
+ * <pre class="code"><code class="java">
+ *   InvocationAwaiter awaiter = new InvocationAwaiter();
+ *   TacticalStation ts = mock(TacticalStation.class, withAwaiter(awaiter));
+ *   //asynchronous call(s) of ts
+ *   awaiter.timeoutAwait(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -&gt; c.getMinimumRange() &gt; 1000, Duration.ofSeconds(1));
+ * </code></pre>
+ *
+ * An awaiter is registered in a mock as a stubbing lookup listener (notified about every call made on a mock, but not about calls
+ * made in verification). Invocations recorded before the waiting is started are also taken into account. A predicate is evaluated
+ * exactly once for every invocation. Matching invocations are marked as verified when waiting succeeds.
+ * <p>
+ * A verifying thread is parked with {@link CompletableFuture#get(long, TimeUnit)} (no sleeping nor synchronized blocks), so it
+ * can be also a virtual thread (on JDKs providing them).
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class InvocationAwaiter implements StubbingLookupListener {
+
+    private final List<Waiter> waiters = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns mock settings with a given awaiter registered. Other settings can be chained.
+     */
+    public static MockSettings withAwaiter(InvocationAwaiter awaiter) {
+        return awaiter.registerIn(Mockito.withSettings());
+    }
+
+    /**
+     * Registers the awaiter in existing mock settings.
+     */
+    public MockSettings registerIn(MockSettings mockSettings) {
+        return mockSettings.stubbingLookupListeners(this);
+    }
+
+    @Override
+    public void onStubbingLookup(StubbingLookupEvent stubbingLookupEvent) {
+        for (Waiter waiter : waiters) {
+            waiter.offer(stubbingLookupEvent.getInvocation());
+        }
+    }
+
+    /**
+     * Waits until a given method is called at least once with an argument matching a predicate.
+     */
+    public <M, A> void timeoutAwait(M mock, SingleArgumentMethod<M, A> method, Predicate<? super A> predicate, Duration timeout) {
+        timeoutAwait(mock, method, predicate, 1, timeout);
+    }
+
+    /**
+     * Waits until a given method is called at least {@code wantedNumberOfInvocations} times with an argument matching a predicate.
+     */
+    public <M, A> void timeoutAwait(M mock, SingleArgumentMethod<M, A> method, Predicate<? super A> predicate,
+                                    int wantedNumberOfInvocations, Duration timeout) {
+        MethodReferences.ReferencedMethod referencedMethod = MethodReferences.referencedMethod(method);
+        Object unwrappedMock = LazyMocks.unwrap(mock);   //invocations are reported for a real mock
+        if (!Mockito.mockingDetails(unwrappedMock).getMockCreationSettings().getStubbingLookupListeners().contains(this)) {
+            throw new MockitoException("Invocation awaiter is not registered in a given mock, so it is not notified about its calls.\n" +
+                    "Please create a mock with withAwaiter(awaiter) or awaiter.registerIn(mockSettings).");
+        }
+        Waiter waiter = new Waiter(unwrappedMock, referencedMethod, predicate, wantedNumberOfInvocations);
+        waiters.add(waiter);    //registered before already recorded invocations are read to do not miss any
+        try {
+            Mockito.mockingDetails(unwrappedMock).getInvocations().forEach(waiter::offer);
+            waiter.await(timeout);
+        } finally {
+            waiters.remove(waiter);
+        }
+    }
+
+    private static class Waiter {
+
+        private final Object mock;
+        private final MethodReferences.ReferencedMethod method;
+        private final Predicate<Object> predicate;
+        private final int wantedNumberOfInvocations;
+        private final Set<Invocation> evaluatedInvocations = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final List<Invocation> matchingInvocations = new ArrayList<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        @SuppressWarnings("unchecked")
+        private Waiter(Object mock, MethodReferences.ReferencedMethod method, Predicate<?> predicate, int wantedNumberOfInvocations) {
+            this.mock = mock;
+            this.method = method;
+            this.predicate = (Predicate<Object>) predicate;
+            this.wantedNumberOfInvocations = wantedNumberOfInvocations;
+        }
+
+        private void offer(Invocation invocation) {
+            if (invocation.getMock() != mock || !method.isSameAs(invocation.getMethod()) || !markEvaluated(invocation)) {
+                return;
+            }
+            boolean matching;
+            try {
+                matching = predicate.test(invocation.getRawArguments()[0]);
+            } catch (RuntimeException | AssertionError e) {
+                completion.completeExceptionally(e);    //reported in a verifying thread, not in a thread calling a mock
+                return;
+            }
+            if (matching) {
+                synchronized (this) {
+                    matchingInvocations.add(invocation);
+                    if (matchingInvocations.size() >= wantedNumberOfInvocations) {
+                        completion.complete(null);
+                    }
+                }
+            }
+        }
+
+        //an invocation can be recorded by a mock and notified to a listener at the same time as already recorded invocations are read
+        private synchronized boolean markEvaluated(Invocation invocation) {
+            return evaluatedInvocations.add(invocation);
+        }
+
+        private void await(Duration timeout) {
+            try {
+                completion.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                throw new MockitoAssertionError(String.format("%s() with argument matching predicate:\nWanted at least %d time(s) within %d ms, but was %d",
+                        method.getName(), wantedNumberOfInvocations, timeout.toMillis(), getNumberOfMatchingInvocations()));
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MockitoException("Interrupted while waiting for invocation of " + method.getName() + "()", e);
+            }
+            synchronized (this) {
+                matchingInvocations.forEach(Invocation::markVerified);
+            }
+        }
+
+        private synchronized int getNumberOfMatchingInvocations() {
+            return matchingInvocations.size();
+        }
+
+        private static RuntimeException rethrow(Throwable cause) {
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return (RuntimeException) cause;
+        }
+    }
+}
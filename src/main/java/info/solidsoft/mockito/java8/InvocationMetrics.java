@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.MockSettings;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+import org.mockito.listeners.InvocationListener;
+import org.mockito.listeners.MethodInvocationReport;
+import org.mockito.listeners.StubbingLookupEvent;
+import org.mockito.listeners.StubbingLookupListener;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records per method invocation counts, answer latencies and throughput of mocks, which is useful when mocks are used as
+ * stand-ins for downstream services in load tests:
+ *
+ * <pre class="code"><code class="java">
+ *   InvocationMetrics metrics = new InvocationMetrics();
+ *   TacticalStation ts = mock(TacticalStation.class, withMetrics(metrics).stubOnly());
+ *   //...
+ *   assertThat(metrics.getMethodMetrics("fireTorpedo").getLatencyAtPercentile(99.0, TimeUnit.MILLISECONDS)).isLessThan(5);
+ *   System.out.println(metrics.report());   //e.g. in @AfterAll
+ * </code></pre>
+ *
+ * Metrics are registered in a mock as an invocation listener together with a stubbing lookup listener, which marks a moment
+ * just before an answer is executed. Counters are striped ({@link LongAdder}) and latencies are kept in HdrHistogram-like
+ * histograms with a fixed memory footprint, so recording adds little overhead also under contention. One instance can be
+ * shared by many mocks - metrics are aggregated per method.
+ * <p>
+ * Please note, that calls made to stub a mock (e.g. {@code given(ts.fireTorpedo(2))}) are also counted. They can be
+ * discarded with {@link #reset()} after stubbing.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class InvocationMetrics implements InvocationListener, StubbingLookupListener {
+
+    private static final double[] REPORTED_PERCENTILES = {50.0, 90.0, 99.0};
+
+    private final Map<Method, MethodMetrics> methodMetrics = new ConcurrentHashMap<>();
+    private final ThreadLocal<InvocationStack> startedInvocations = ThreadLocal.withInitial(InvocationStack::new);
+
+    /**
+     * Returns mock settings with given metrics registered. Other settings can be chained.
+     */
+    public static MockSettings withMetrics(InvocationMetrics metrics) {
+        return metrics.registerIn(Mockito.withSettings());
+    }
+
+    /**
+     * Registers metrics in existing mock settings.
+     */
+    public MockSettings registerIn(MockSettings mockSettings) {
+        return mockSettings.invocationListeners(this).stubbingLookupListeners(this);
+    }
+
+    @Override
+    public void onStubbingLookup(StubbingLookupEvent stubbingLookupEvent) {
+        startedInvocations.get().push(stubbingLookupEvent.getInvocation(), System.nanoTime());
+    }
+
+    @Override
+    public void reportInvocation(MethodInvocationReport methodInvocationReport) {
+        long finishTime = System.nanoTime();
+        InvocationStack invocationStack = startedInvocations.get();
+        //there is no lookup (and no start time) for a call made in verification
+        if (invocationStack.isTopInvocation(methodInvocationReport.getInvocation())) {
+            Invocation invocation = invocationStack.peekInvocation();
+            long startTime = invocationStack.pop();
+            metricsOf(invocation.getMethod()).record(startTime, finishTime, methodInvocationReport.threwException());
+        }
+    }
+
+    private MethodMetrics metricsOf(Method method) {
+        MethodMetrics metrics = methodMetrics.get(method);     //computeIfAbsent() locks also for existing keys in Java 8
+        return metrics != null ? metrics : methodMetrics.computeIfAbsent(method, MethodMetrics::new);
+    }
+
+    /**
+     * Returns metrics of a method with a given name (aggregated for overloaded methods). Metrics of a not called method are empty.
+     */
+    public MethodMetrics getMethodMetrics(String methodName) {
+        return methodMetrics.values().stream()
+                .filter(metrics -> metrics.getMethodName().equals(methodName))
+                .reduce(MethodMetrics::merge)
+                .orElseGet(() -> new MethodMetrics(methodName));
+    }
+
+    public long getTotalInvocationCount() {
+        return methodMetrics.values().stream().mapToLong(MethodMetrics::getInvocationCount).sum();
+    }
+
+    /**
+     * Discards all recorded metrics (e.g. calls made while stubbing).
+     */
+    public void reset() {
+        methodMetrics.clear();
+    }
+
+    /**
+     * Returns a human readable report with metrics of all called methods (the most often called first).
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Invocation metrics (").append(getTotalInvocationCount()).append(" invocation(s)):");
+        methodMetrics.values().stream()
+                .sorted(Comparator.comparingLong(MethodMetrics::getInvocationCount).reversed())
+                .forEach(metrics -> report.append("\n - ").append(metrics));
+        return report.toString();
+    }
+
+    @Override
+    public String toString() {
+        return report();
+    }
+
+    /**
+     * Metrics of a single method.
+     */
+    public static class MethodMetrics {
+
+        private final String methodName;
+        private final LongAdder invocationCounter = new LongAdder();
+        private final LongAdder failureCounter = new LongAdder();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAccumulator firstStartTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator lastFinishTime = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        private MethodMetrics(Method method) {
+            this(method.getName());
+        }
+
+        private MethodMetrics(String methodName) {
+            this.methodName = methodName;
+        }
+
+        private void record(long startTime, long finishTime, boolean failed) {
+            invocationCounter.increment();
+            if (failed) {
+                failureCounter.increment();
+            }
+            latencies.record(finishTime - startTime);
+            firstStartTime.accumulate(startTime);
+            lastFinishTime.accumulate(finishTime);
+        }
+
+        private MethodMetrics merge(MethodMetrics other) {
+            MethodMetrics merged = new MethodMetrics(methodName);
+            for (MethodMetrics metrics : Arrays.asList(this, other)) {
+                merged.invocationCounter.add(metrics.getInvocationCount());
+                merged.failureCounter.add(metrics.getFailureCount());
+                merged.latencies.merge(metrics.latencies);
+                merged.firstStartTime.accumulate(metrics.firstStartTime.get());
+                merged.lastFinishTime.accumulate(metrics.lastFinishTime.get());
+            }
+            return merged;
+        }
+
+        public String getMethodName() {
+            return methodName;
+        }
+
+        public long getInvocationCount() {
+            return invocationCounter.sum();
+        }
+
+        /**
+         * Returns a number of invocations finished with an exception.
+         */
+        public long getFailureCount() {
+            return failureCounter.sum();
+        }
+
+        /**
+         * Returns a latency of an answer at a given percentile (0.0 - 100.0) with a precision of 12.5%.
+         */
+        public long getLatencyAtPercentile(double percentile, TimeUnit unit) {
+            return unit.convert(latencies.getValueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+        }
+
+        public long getMaxLatency(TimeUnit unit) {
+            return unit.convert(latencies.getMaxValue(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Returns a number of invocations per second between a start of the first and a finish of the last invocation.
+         */
+        public double getThroughputPerSecond() {
+            long invocationCount = getInvocationCount();
+            if (invocationCount == 0) {
+                return 0.0;
+            }
+            long elapsedNanos = Math.max(lastFinishTime.get() - firstStartTime.get(), 1);
+            return invocationCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder description = new StringBuilder(methodName).append(": ")
+                    .append(getInvocationCount()).append(" invocation(s), ")
+                    .append(getFailureCount()).append(" failure(s), ")
+                    .append(String.format("%.1f", getThroughputPerSecond())).append("/s, latency [us]");
+            for (double percentile : REPORTED_PERCENTILES) {
+                description.append(" p").append((int) percentile).append('=').append(getLatencyAtPercentile(percentile, TimeUnit.MICROSECONDS));
+            }
+            return description.append(" max=").append(getMaxLatency(TimeUnit.MICROSECONDS)).toString();
+        }
+    }
+
+    /**
+     * Start times of invocations in progress in a thread - an answer can call another mock registered with the same metrics.
+     */
+    private static class InvocationStack {
+
+        private Invocation[] invocations = new Invocation[4];
+        private long[] startTimes = new long[4];
+        private int size;
+
+        private void push(Invocation invocation, long startTime) {
+            if (size == invocations.length) {
+                invocations = Arrays.copyOf(invocations, size * 2);
+                startTimes = Arrays.copyOf(startTimes, size * 2);
+            }
+            invocations[size] = invocation;
+            startTimes[size] = startTime;
+            size++;
+        }
+
+        private boolean isTopInvocation(Object invocation) {
+            return size > 0 && invocations[size - 1] == invocation;
+        }
+
+        private Invocation peekInvocation() {
+            return invocations[size - 1];
+        }
+
+        private long pop() {
+            size--;
+            invocations[size] = null;
+            return startTimes[size];
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import net.jodah.typetools.TypeResolver;
+import org.mockito.Incubating;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.ValidableAnswer;
+
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static info.solidsoft.mockito.java8.SneakyThrow.sneakyRethrow;
+
+/**
+ * Allows implementing an Answer with a lambda expression taking typed arguments of a stubbed method:
+ *
+ * <pre class="code"><code class="java">
+ *   given(ts.findNumberOfShipsInRangeByCriteria(any()))
+ *       .willAnswer(answerWith((ShipSearchCriteria c) -&gt; c.getMinimumRange() &gt; 1000 ? 4 : 0));
+ * </code></pre>
+ *
+ * instead of casting elements of {@code invocation.getArguments()} (which copies the arguments array on every call). Methods
+ * with up to 6 arguments are supported. Arguments are taken with {@link InvocationOnMock#getArgument(int)} (no copying).
+ * <p>
+ * Types of lambda parameters are resolved once per lambda class (with TypeTools) and compared with types of parameters of
+ * a stubbed method when the stubbing is created, so an incompatible lambda is reported at the stubbing location instead of
+ * a ClassCastException on the first call.
+ *
+ * @param <R> type of value returned by the answer
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class LambdaAnswer<R> implements Answer<R>, ValidableAnswer {
+
+    //resolved per functional interface, as a (non lambda) class can implement several of them
+    private static final ClassValue<Map<Class<?>, Class<?>[]>> lambdaParameterTypes = new ClassValue<Map<Class<?>, Class<?>[]>>() {
+        @Override
+        protected Map<Class<?>, Class<?>[]> computeValue(Class<?> lambdaType) {
+            return new ConcurrentHashMap<>(2);
+        }
+    };
+
+    private final Object lambda;
+    private final Class<?> functionalInterface;
+    private final Answer<R> invoker;
+
+    private LambdaAnswer(Object lambda, Class<?> functionalInterface, Answer<R> invoker) {
+        this.lambda = lambda;
+        this.functionalInterface = functionalInterface;
+        this.invoker = invoker;
+    }
+
+    /**
+     * Creates an answer calling a given invoker, but validated against parameter types of a given lambda (e.g. wrapped by
+     * the invoker) implementing a given functional interface.
+     */
+    static <R> LambdaAnswer<R> lambdaAnswer(Object lambda, Class<?> functionalInterface, Answer<R> invoker) {
+        return new LambdaAnswer<>(lambda, functionalInterface, invoker);
+    }
+
+    private static Class<?>[] parameterTypesOf(Object lambda, Class<?> functionalInterface) {
+        return lambdaParameterTypes.get(lambda.getClass()).computeIfAbsent(functionalInterface, type -> {
+            //the last resolved type argument is a returned type
+            Class<?>[] typeArguments = TypeResolver.resolveRawArguments(type, lambda.getClass());
+            return Arrays.copyOf(typeArguments, typeArguments.length - 1);
+        });
+    }
+
+    @Override
+    public R answer(InvocationOnMock invocation) throws Throwable {
+        return invoker.answer(invocation);
+    }
+
+    @Override
+    public void validateFor(InvocationOnMock invocation) {
+        Class<?>[] lambdaTypes = parameterTypesOf(lambda, functionalInterface);
+        Class<?>[] methodTypes = invocation.getMethod().getParameterTypes();
+        String methodName = invocation.getMethod().getName();
+        if (lambdaTypes.length != methodTypes.length) {
+            throw new MockitoException(String.format("Answer lambda takes %d argument(s), but stubbed method %s() takes %d",
+                    lambdaTypes.length, methodName, methodTypes.length));
+        }
+        for (int i = 0; i < lambdaTypes.length; i++) {
+            if (!areCompatible(lambdaTypes[i], wrapperOf(methodTypes[i]))) {
+                throw new MockitoException(String.format("Answer lambda parameter %d of type %s is not compatible with parameter of type %s of stubbed method %s()",
+                        i + 1, lambdaTypes[i].getSimpleName(), methodTypes[i].getSimpleName(), methodName));
+            }
+        }
+    }
+
+    private static Class<?> wrapperOf(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();     //a primitive argument is passed to a lambda boxed
+    }
+
+    private static boolean areCompatible(Class<?> lambdaType, Class<?> methodType) {
+        //a lambda can also expect a subtype, e.g. when a method is stubbed only for arguments of that type
+        return lambdaType == TypeResolver.Unknown.class || lambdaType.isAssignableFrom(methodType) || methodType.isAssignableFrom(lambdaType);
+    }
+
+    public static <A1, R> Answer<R> answerWith(Function<A1, R> lambda) {
+        return new LambdaAnswer<>(lambda, Function.class, invocation -> lambda.apply(invocation.getArgument(0)));
+    }
+
+    /**
+     * A variant of answerWith(Function) for methods with 2 arguments.
+     */
+    public static <A1, A2, R> Answer<R> answerWith(BiFunction<A1, A2, R> lambda) {
+        return new LambdaAnswer<>(lambda, BiFunction.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    /**
+     * A variant of answerWith(Function) for methods with 3 arguments.
+     */
+    public static <A1, A2, A3, R> Answer<R> answerWith(Function3<A1, A2, A3, R> lambda) {
+        return new LambdaAnswer<>(lambda, Function3.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    /**
+     * A variant of answerWith(Function) for methods with 4 arguments.
+     */
+    public static <A1, A2, A3, A4, R> Answer<R> answerWith(Function4<A1, A2, A3, A4, R> lambda) {
+        return new LambdaAnswer<>(lambda, Function4.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    /**
+     * A variant of answerWith(Function) for methods with 5 arguments.
+     */
+    public static <A1, A2, A3, A4, A5, R> Answer<R> answerWith(Function5<A1, A2, A3, A4, A5, R> lambda) {
+        return new LambdaAnswer<>(lambda, Function5.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4)));
+    }
+
+    /**
+     * A variant of answerWith(Function) for methods with 6 arguments.
+     */
+    public static <A1, A2, A3, A4, A5, A6, R> Answer<R> answerWith(Function6<A1, A2, A3, A4, A5, A6, R> lambda) {
+        return new LambdaAnswer<>(lambda, Function6.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4), invocation.getArgument(5)));
+    }
+
+    /**
+     * A variant of answerWith(Function) for lambdas declaring checked exceptions.
+     */
+    public static <A1, R> Answer<R> answerWithThrowing(ThrowingFunction1<A1, R> throwingLambda) {
+        Function<A1, R> lambda = throwingLambda.uncheck();
+        return new LambdaAnswer<>(throwingLambda, ThrowingFunction1.class, invocation -> lambda.apply(invocation.getArgument(0)));
+    }
+
+    /**
+     * A variant of answerWithThrowing(ThrowingFunction1) for methods with 2 arguments.
+     */
+    public static <A1, A2, R> Answer<R> answerWithThrowing(ThrowingFunction2<A1, A2, R> throwingLambda) {
+        BiFunction<A1, A2, R> lambda = throwingLambda.uncheck();
+        return new LambdaAnswer<>(throwingLambda, ThrowingFunction2.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    /**
+     * A variant of answerWithThrowing(ThrowingFunction1) for methods with 3 arguments.
+     */
+    public static <A1, A2, A3, R> Answer<R> answerWithThrowing(ThrowingFunction3<A1, A2, A3, R> throwingLambda) {
+        Function3<A1, A2, A3, R> lambda = throwingLambda.uncheck();
+        return new LambdaAnswer<>(throwingLambda, ThrowingFunction3.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    /**
+     * A variant of answerWithThrowing(ThrowingFunction1) for methods with 4 arguments.
+     */
+    public static <A1, A2, A3, A4, R> Answer<R> answerWithThrowing(ThrowingFunction4<A1, A2, A3, A4, R> throwingLambda) {
+        Function4<A1, A2, A3, A4, R> lambda = throwingLambda.uncheck();
+        return new LambdaAnswer<>(throwingLambda, ThrowingFunction4.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+    }
+
+    /**
+     * A variant of answerWithThrowing(ThrowingFunction1) for methods with 5 arguments.
+     */
+    public static <A1, A2, A3, A4, A5, R> Answer<R> answerWithThrowing(ThrowingFunction5<A1, A2, A3, A4, A5, R> throwingLambda) {
+        Function5<A1, A2, A3, A4, A5, R> lambda = throwingLambda.uncheck();
+        return new LambdaAnswer<>(throwingLambda, ThrowingFunction5.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4)));
+    }
+
+    /**
+     * A variant of answerWithThrowing(ThrowingFunction1) for methods with 6 arguments.
+     */
+    public static <A1, A2, A3, A4, A5, A6, R> Answer<R> answerWithThrowing(ThrowingFunction6<A1, A2, A3, A4, A5, A6, R> throwingLambda) {
+        Function6<A1, A2, A3, A4, A5, A6, R> lambda = throwingLambda.uncheck();
+        return new LambdaAnswer<>(throwingLambda, ThrowingFunction6.class, invocation -> lambda.apply(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4), invocation.getArgument(5)));
+    }
+
+    @FunctionalInterface
+    public interface Function3<A1, A2, A3, R> {
+        R apply(A1 argument1, A2 argument2, A3 argument3);
+    }
+
+    @FunctionalInterface
+    public interface Function4<A1, A2, A3, A4, R> {
+        R apply(A1 argument1, A2 argument2, A3 argument3, A4 argument4);
+    }
+
+    @FunctionalInterface
+    public interface Function5<A1, A2, A3, A4, A5, R> {
+        R apply(A1 argument1, A2 argument2, A3 argument3, A4 argument4, A5 argument5);
+    }
+
+    @FunctionalInterface
+    public interface Function6<A1, A2, A3, A4, A5, A6, R> {
+        R apply(A1 argument1, A2 argument2, A3 argument3, A4 argument4, A5 argument5, A6 argument6);
+    }
+
+    @FunctionalInterface
+    public interface ThrowingFunction1<A1, R> {
+
+        R apply(A1 argument1) throws Exception;
+
+        default Function<A1, R> uncheck() {
+            return argument1 -> {
+                try {
+                    return apply(argument1);
+                } catch (Exception e) {
+                    return sneakyRethrow(e);
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingFunction2<A1, A2, R> {
+
+        R apply(A1 argument1, A2 argument2) throws Exception;
+
+        default BiFunction<A1, A2, R> uncheck() {
+            return (argument1, argument2) -> {
+                try {
+                    return apply(argument1, argument2);
+                } catch (Exception e) {
+                    return sneakyRethrow(e);
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingFunction3<A1, A2, A3, R> {
+
+        R apply(A1 argument1, A2 argument2, A3 argument3) throws Exception;
+
+        default Function3<A1, A2, A3, R> uncheck() {
+            return (argument1, argument2, argument3) -> {
+                try {
+                    return apply(argument1, argument2, argument3);
+                } catch (Exception e) {
+                    return sneakyRethrow(e);
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingFunction4<A1, A2, A3, A4, R> {
+
+        R apply(A1 argument1, A2 argument2, A3 argument3, A4 argument4) throws Exception;
+
+        default Function4<A1, A2, A3, A4, R> uncheck() {
+            return (argument1, argument2, argument3, argument4) -> {
+                try {
+                    return apply(argument1, argument2, argument3, argument4);
+                } catch (Exception e) {
+                    return sneakyRethrow(e);
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingFunction5<A1, A2, A3, A4, A5, R> {
+
+        R apply(A1 argument1, A2 argument2, A3 argument3, A4 argument4, A5 argument5) throws Exception;
+
+        default Function5<A1, A2, A3, A4, A5, R> uncheck() {
+            return (argument1, argument2, argument3, argument4, argument5) -> {
+                try {
+                    return apply(argument1, argument2, argument3, argument4, argument5);
+                } catch (Exception e) {
+                    return sneakyRethrow(e);
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingFunction6<A1, A2, A3, A4, A5, A6, R> {
+
+        R apply(A1 argument1, A2 argument2, A3 argument3, A4 argument4, A5 argument5, A6 argument6) throws Exception;
+
+        default Function6<A1, A2, A3, A4, A5, A6, R> uncheck() {
+            return (argument1, argument2, argument3, argument4, argument5, argument6) -> {
+                try {
+                    return apply(argument1, argument2, argument3, argument4, argument5, argument6);
+                } catch (Exception e) {
+                    return sneakyRethrow(e);
+                }
+            };
+        }
+    }
+}
@@ -8,28 +8,70 @@ package info.solidsoft.mockito.java8;
 import net.jodah.typetools.TypeResolver;
 import org.mockito.internal.util.Primitives;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
- * Extended version of HandyReturnValues which can resolve safe return type also for Consumer argument.
+ * Extended version of HandyReturnValues which can resolve safe return type also for Consumer (or Predicate) argument.
  *
  * Under the hood it uses TypeTools library which is used to work also for primitive argument types (to not throw NullPointerException).
+ * <p>
+ * A resolved argument type is cached per lambda class (with {@link ClassValue} to do not keep the lambda class loader alive), so
+ * TypeTools is only called once for a given call site, regardless how many times (e.g. in a loop) the matcher is created.
  *
  * @author Marcin Zajączkowski
  */
 class LambdaAwareHandyReturnValues {
 
+    //shared by all matchers to resolve a given lambda class only once
+    static final LambdaAwareHandyReturnValues SHARED = new LambdaAwareHandyReturnValues();
+
+    private final LongAdder cacheLookups = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    private final ClassValue<Class<?>> consumerArgumentTypes = new ArgumentTypeCache(Consumer.class);
+    private final ClassValue<Class<?>> throwingConsumerArgumentTypes = new ArgumentTypeCache(ThrowingConsumer.class);
+    private final ClassValue<Class<?>> predicateArgumentTypes = new ArgumentTypeCache(Predicate.class);
+
     <T> T returnForConsumerLambda(Consumer<T> consumer) {
-        return internalReturnForLambda(consumer, Consumer.class);
+        return internalReturnForLambda(consumer, consumerArgumentTypes);
     }
 
     <T> T returnForConsumerLambdaChecked(ThrowingConsumer<T> throwingConsumer) {
-        return internalReturnForLambda(throwingConsumer, ThrowingConsumer.class);
+        return internalReturnForLambda(throwingConsumer, throwingConsumerArgumentTypes);
+    }
+
+    <T> T returnForPredicateLambda(Predicate<T> predicate) {
+        return internalReturnForLambda(predicate, predicateArgumentTypes);
+    }
+
+    long getCacheHitCount() {
+        return cacheLookups.sum() - cacheMisses.sum();
+    }
+
+    long getCacheMissCount() {
+        return cacheMisses.sum();
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T internalReturnForLambda(Object consumer, Class consumerType) {
-        Class<?>[] typeArgs = TypeResolver.resolveRawArguments(consumerType, consumer.getClass());
-        return (T) Primitives.defaultValue(typeArgs[0]);
+    private <T> T internalReturnForLambda(Object consumer, ClassValue<Class<?>> argumentTypes) {
+        cacheLookups.increment();
+        return (T) Primitives.defaultValue(argumentTypes.get(consumer.getClass()));
+    }
+
+    private class ArgumentTypeCache extends ClassValue<Class<?>> {
+
+        private final Class<?> consumerType;
+
+        private ArgumentTypeCache(Class<?> consumerType) {
+            this.consumerType = consumerType;
+        }
+
+        @Override
+        protected Class<?> computeValue(Class<?> lambdaType) {
+            cacheMisses.increment();
+            return TypeResolver.resolveRawArguments(consumerType, lambdaType)[0];
+        }
     }
 }
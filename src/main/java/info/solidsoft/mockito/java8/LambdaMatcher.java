@@ -6,11 +6,26 @@
 package info.solidsoft.mockito.java8;
 
 import org.mockito.ArgumentMatcher;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Incubating;
+import org.mockito.exceptions.base.MockitoException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.ArgumentMatchers.longThat;
 
 /**
  * Allows creating inlined argument matcher with a lambda expression.
@@ -78,50 +93,224 @@ import static org.mockito.ArgumentMatchers.argThat;
 @SuppressWarnings("WeakerAccess")
 public class LambdaMatcher<T> implements ArgumentMatcher<T> {
 
-    private final ArgumentMatcher<T> backendMatcher;    //TODO: Could it be done with just one matcher?
+    static final String DEFAULT_DESCRIPTION = "Inline lambda expression - add description in code to get more detailed error message";
+
+    //a single lambda or flattened lambdas of combined matchers (ordered by cost hint) evaluated with short-circuiting
+    private final Predicate<T>[] predicates;
+    private final boolean anyOf;
+    private final List<LambdaMatcher<T>> components;     //in declaration order, to describe a combination
+    private final int cost;
+    private final Supplier<String> descriptionSupplier;
+    private volatile String description;
+    private final MatcherProfiler.Profile profile;
 
     private LambdaMatcher(Predicate<T> lambda, String description) {
-        this.backendMatcher = new ArgumentMatcher<T>() {
-            @Override
-            public boolean matches(T item) {
-                try {
-                    return lambda.test(item);
-                } catch (Exception e) {
-                    throw new RuntimeException(e); //Could be potentially tricked with CheckedPredicate.uncheck(), but kept for backward compatibility
-                }
-            }
+        this(lambda, description, null, 0);
+    }
 
-            @Override
-            public String toString() {
-                return description;
-            }
-        };
+    private LambdaMatcher(Predicate<T> lambda, Supplier<String> descriptionSupplier) {
+        this(lambda, null, descriptionSupplier, 0);
+    }
+
+    private LambdaMatcher(Predicate<T> lambda, String description, Supplier<String> descriptionSupplier, int cost) {
+        this.predicates = toArray(Collections.singletonList(lambda));
+        this.anyOf = false;
+        this.components = null;
+        this.cost = cost;
+        this.descriptionSupplier = descriptionSupplier;
+        this.description = description;
+        this.profile = MatcherProfiler.profileForNewMatcher("argLambda");
+    }
+
+    private LambdaMatcher(boolean anyOf, List<LambdaMatcher<T>> components) {
+        this.predicates = toArray(components.stream()
+                .sorted(Comparator.comparingInt(component -> component.cost))      //stable - declaration order for equal costs
+                .map(LambdaMatcher::asPredicate)
+                .collect(Collectors.toList()));
+        this.anyOf = anyOf;
+        this.components = components;
+        this.cost = components.stream().mapToInt(component -> component.cost).sum();
+        this.descriptionSupplier = () -> components.stream()
+                .map(LambdaMatcher::toString)
+                .collect(Collectors.joining(anyOf ? " or " : " and ", "(", ")"));
+        this.profile = MatcherProfiler.profileForNewMatcher("argLambda");
     }
 
     @Override
     public boolean matches(T item) {
-        return backendMatcher.matches(item);
+        if (MatcherProfiler.ENABLED) {
+            long startTime = System.nanoTime();
+            try {
+                return evaluate(item);
+            } finally {
+                profile.record(startTime);
+            }
+        }
+        return evaluate(item);
+    }
+
+    private boolean evaluate(T item) {
+        try {
+            return test(item);
+        } catch (Exception e) {
+            throw new RuntimeException(e); //Could be potentially tricked with CheckedPredicate.uncheck(), but kept for backward compatibility
+        }
+    }
+
+    private boolean test(T item) {
+        for (Predicate<T> predicate : predicates) {
+            if (predicate.test(item) == anyOf) {
+                return anyOf;
+            }
+        }
+        return !anyOf;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})    //generic array creation
+    private static <T> Predicate<T>[] toArray(List<Predicate<T>> predicates) {
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<T> asPredicate() {
+        return components == null ? predicates[0] : (Predicate<T>) this::test;     //nested combination of other kind
+    }
+
+    /**
+     * Returns a matcher matching an argument matched by both this and other matcher. Combined matchers are flattened into
+     * one matcher evaluating their predicates (the cheapest first, see {@link #withCost(int)}) with short-circuiting.
+     * A description of a combination is built only if needed to report a mismatch.
+     */
+    @Incubating
+    public LambdaMatcher<T> and(LambdaMatcher<T> other) {
+        return allOf(this, other);
+    }
+
+    /**
+     * Returns a matcher matching an argument matched by this or other matcher (see {@link #and(LambdaMatcher)}).
+     */
+    @Incubating
+    public LambdaMatcher<T> or(LambdaMatcher<T> other) {
+        return anyOf(this, other);
+    }
+
+    @Incubating
+    public LambdaMatcher<T> negate() {
+        Predicate<T> negatedLambda = components == null ? predicates[0].negate() : item -> !test(item);
+        return new LambdaMatcher<>(negatedLambda, null, () -> "not(" + this + ")", cost);
+    }
+
+    /**
+     * Returns a copy of this matcher with a cost hint of its predicate (matchers without a hint have cost 0). In a combination
+     * predicates with the lowest cost hint are evaluated first (preserving a declaration order for the same cost), so an
+     * expensive one is often not evaluated at all. A cost of a combination is a sum of costs of its components.
+     */
+    @Incubating
+    public LambdaMatcher<T> withCost(int cost) {
+        if (components != null) {
+            throw new MockitoException("Cost hint can be only set for a single lambda, not for a combination of matchers");
+        }
+        return new LambdaMatcher<>(predicates[0], description, descriptionSupplier, cost);
     }
 
     @Override
     public String toString() {
-        return backendMatcher.toString();
+        if (description == null && descriptionSupplier != null) {  //built at most a few times in a race, but always to the same value
+            String suppliedDescription = descriptionSupplier.get();
+            description = suppliedDescription != null ? suppliedDescription : DEFAULT_DESCRIPTION;
+        }
+        return description;
+    }
+
+    /**
+     * Creates a matcher to be used with {@code argThat()} when it is needed to combine it with other matchers:
+     *
+     * <pre class="code"><code class="java">
+     *   given(ts.findNumberOfShipsInRangeByCriteria(argThat(lambda(c -&gt; c.getMinimumRange() &gt; 1000, "range above 1000")
+     *       .and(lambda(c -&gt; c.getNumberOfPhasers() &gt; 2, "more than 2 phasers"))))).willReturn(4);
+     * </code></pre>
+     */
+    @Incubating
+    public static <T> LambdaMatcher<T> lambda(Predicate<T> lambda, String description) {
+        return new LambdaMatcher<>(lambda, description);
+    }
+
+    /**
+     * A variant of lambda(Predicate, String) with a description built lazily (see {@link #argLambdaLazy(Predicate, Supplier)}).
+     */
+    @Incubating
+    public static <T> LambdaMatcher<T> lambdaLazy(Predicate<T> lambda, Supplier<String> descriptionSupplier) {
+        return new LambdaMatcher<>(lambda, descriptionSupplier);
+    }
+
+    /**
+     * Returns a matcher matching an argument matched by all given matchers (see {@link #and(LambdaMatcher)}).
+     */
+    @SafeVarargs
+    @Incubating
+    @SuppressWarnings("varargs")    //matchers are only read
+    public static <T> LambdaMatcher<T> allOf(LambdaMatcher<T>... matchers) {
+        return combine(false, Arrays.asList(matchers));
+    }
+
+    /**
+     * Returns a matcher matching an argument matched by any of given matchers (see {@link #and(LambdaMatcher)}).
+     */
+    @SafeVarargs
+    @Incubating
+    @SuppressWarnings("varargs")    //matchers are only read
+    public static <T> LambdaMatcher<T> anyOf(LambdaMatcher<T>... matchers) {
+        return combine(true, Arrays.asList(matchers));
+    }
+
+    private static <T> LambdaMatcher<T> combine(boolean anyOf, List<LambdaMatcher<T>> matchers) {
+        if (matchers.isEmpty()) {
+            throw new MockitoException("At least one matcher has to be combined");
+        }
+        List<LambdaMatcher<T>> components = new ArrayList<>(matchers.size());
+        for (LambdaMatcher<T> matcher : matchers) {
+            if (matcher.components != null && matcher.anyOf == anyOf) {
+                components.addAll(matcher.components);
+            } else {
+                components.add(matcher);
+            }
+        }
+        return new LambdaMatcher<>(anyOf, components);
     }
 
     public static <T> T argLambda(Predicate<T> lambda) {
-        return argLambda(lambda, "Inline lambda expression - add description in code to get more detailed error message");
+        return argLambda(lambda, DEFAULT_DESCRIPTION);
     }
 
     public static <T> T argLambda(Predicate<T> lambda, String description) {
         return argThat(new LambdaMatcher<>(lambda, description));
     }
 
+    /**
+     * A variant of argLambda(Predicate, String) with a description built lazily - only if needed to report a mismatch
+     * (and only once). Useful when a description is costly to build, e.g. in a stubbing performed in a loop. If a supplier
+     * returns {@code null}, a default description is used.
+     */
+    @Incubating
+    public static <T> T argLambdaLazy(Predicate<T> lambda, Supplier<String> descriptionSupplier) {
+        return argThat(new LambdaMatcher<>(lambda, descriptionSupplier));
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) with a description lazily formatted with {@link String#format(String, Object...)}
+     * - only if needed to report a mismatch.
+     */
+    @Incubating
+    public static <T> T argLambda(Predicate<T> lambda, String descriptionFormat, Object... descriptionArgs) {
+        return argLambdaLazy(lambda, () -> String.format(descriptionFormat, descriptionArgs));
+    }
+
     /**
      * A variant of argLambda(Predicate) for lambdas declaring checked ecceptions.
      */
     @Incubating
     public static <T> T argLambdaThrowing(ThrowingPredicate<T> throwingLambda) {
-        return argLambda(throwingLambda.uncheck(), "Inline lambda expression - add description in code to get more detailed error message");
+        return argLambda(throwingLambda.uncheck(), DEFAULT_DESCRIPTION);
     }
 
     /**
@@ -131,4 +320,134 @@ public class LambdaMatcher<T> implements ArgumentMatcher<T> {
     public static <T> T argLambdaThrowing(ThrowingPredicate<T> throwingLambda, String description) {
         return argThat(new LambdaMatcher<>(throwingLambda.uncheck(), description));
     }
+
+    /**
+     * A variant of argLambdaLazy(Predicate, Supplier) for lambdas declaring checked exceptions.
+     */
+    @Incubating
+    public static <T> T argLambdaThrowingLazy(ThrowingPredicate<T> throwingLambda, Supplier<String> descriptionSupplier) {
+        return argThat(new LambdaMatcher<>(throwingLambda.uncheck(), descriptionSupplier));
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String, Object...) for lambdas declaring checked exceptions.
+     */
+    @Incubating
+    public static <T> T argLambdaThrowing(ThrowingPredicate<T> throwingLambda, String descriptionFormat, Object... descriptionArgs) {
+        return argLambdaThrowingLazy(throwingLambda, () -> String.format(descriptionFormat, descriptionArgs));
+    }
+
+    /**
+     * A variant of argLambda(Predicate) for int arguments. The predicate is called directly by a matcher registered
+     * with {@link ArgumentMatchers#intThat(ArgumentMatcher)}, without an intermediate boxed Predicate.
+     */
+    @Incubating
+    public static int argIntLambda(IntPredicate lambda) {
+        return argIntLambda(lambda, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) for int arguments.
+     */
+    @Incubating
+    public static int argIntLambda(IntPredicate lambda, String description) {
+        return intThat(new IntLambdaMatcher(lambda, description));
+    }
+
+    /**
+     * A variant of argLambda(Predicate) for long arguments. The predicate is called directly by a matcher registered
+     * with {@link ArgumentMatchers#longThat(ArgumentMatcher)}, without an intermediate boxed Predicate.
+     */
+    @Incubating
+    public static long argLongLambda(LongPredicate lambda) {
+        return argLongLambda(lambda, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) for long arguments.
+     */
+    @Incubating
+    public static long argLongLambda(LongPredicate lambda, String description) {
+        return longThat(new LongLambdaMatcher(lambda, description));
+    }
+
+    /**
+     * A variant of argLambda(Predicate) for double arguments. The predicate is called directly by a matcher registered
+     * with {@link ArgumentMatchers#doubleThat(ArgumentMatcher)}, without an intermediate boxed Predicate.
+     */
+    @Incubating
+    public static double argDoubleLambda(DoublePredicate lambda) {
+        return argDoubleLambda(lambda, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argLambda(Predicate, String) for double arguments.
+     */
+    @Incubating
+    public static double argDoubleLambda(DoublePredicate lambda, String description) {
+        return doubleThat(new DoubleLambdaMatcher(lambda, description));
+    }
+
+    private static class IntLambdaMatcher implements ArgumentMatcher<Integer> {
+
+        private final IntPredicate lambda;
+        private final String description;
+
+        private IntLambdaMatcher(IntPredicate lambda, String description) {
+            this.lambda = lambda;
+            this.description = description;
+        }
+
+        @Override
+        public boolean matches(Integer argument) {
+            return argument != null && lambda.test(argument);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static class LongLambdaMatcher implements ArgumentMatcher<Long> {
+
+        private final LongPredicate lambda;
+        private final String description;
+
+        private LongLambdaMatcher(LongPredicate lambda, String description) {
+            this.lambda = lambda;
+            this.description = description;
+        }
+
+        @Override
+        public boolean matches(Long argument) {
+            return argument != null && lambda.test(argument);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private static class DoubleLambdaMatcher implements ArgumentMatcher<Double> {
+
+        private final DoublePredicate lambda;
+        private final String description;
+
+        private DoubleLambdaMatcher(DoublePredicate lambda, String description) {
+            this.lambda = lambda;
+            this.description = description;
+        }
+
+        @Override
+        public boolean matches(Double argument) {
+            return argument != null && lambda.test(argument);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
 }
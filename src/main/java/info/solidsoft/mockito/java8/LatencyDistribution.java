@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A distribution of latencies simulated by {@link DelayedAnswers}.
+ *
+ * @since 2.6.0
+ */
+@FunctionalInterface
+@Incubating
+public interface LatencyDistribution {
+
+    /**
+     * Returns a next (random) latency in nanoseconds.
+     */
+    long nextLatencyNanos();
+
+    static LatencyDistribution fixed(Duration latency) {
+        long latencyNanos = latency.toNanos();
+        return () -> latencyNanos;
+    }
+
+    /**
+     * Returns latencies uniformly distributed between {@code min} (inclusive) and {@code max} (exclusive).
+     */
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        if (maxNanos <= minNanos) {
+            throw new IllegalArgumentException("Maximal latency has to be greater than minimal one, but was " + max + " <= " + min);
+        }
+        return () -> ThreadLocalRandom.current().nextLong(minNanos, maxNanos);
+    }
+
+    /**
+     * Returns log-normally distributed latencies (a typical shape of latencies of remote services) with a given median and
+     * a standard deviation (of the underlying normal distribution) {@code sigma} - e.g. 0.5 for a moderately long tail.
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(median.toNanos());
+        return () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+
+    /**
+     * Returns latencies following recorded percentiles (e.g. taken from production monitoring) - values between percentiles
+     * are linearly interpolated:
+     *
+     * <pre class="code"><code class="java">
+     *   percentiles().with(0.0, ofMillis(2)).with(50.0, ofMillis(12)).with(99.0, ofMillis(85)).with(100.0, ofMillis(240))
+     * </code></pre>
+     *
+     * If no 0th percentile is given, latencies below the first recorded percentile are interpolated from zero (e.g. with
+     * only a median of 12 ms, a quarter of latencies is lower than 6 ms) - a known minimal latency should be added as
+     * a 0th percentile. Latencies above the last recorded percentile are equal to its latency.
+     */
+    static Percentiles percentiles() {
+        return new Percentiles(new double[0], new long[0]);
+    }
+
+    final class Percentiles implements LatencyDistribution {
+
+        private final double[] percentiles;
+        private final long[] latenciesNanos;
+
+        private Percentiles(double[] percentiles, long[] latenciesNanos) {
+            this.percentiles = percentiles;
+            this.latenciesNanos = latenciesNanos;
+        }
+
+        /**
+         * Returns a distribution with an additional percentile. Percentiles have to be added in an ascending order.
+         */
+        public Percentiles with(double percentile, Duration latency) {
+            int size = percentiles.length;
+            if (percentile < 0.0 || percentile > 100.0 || (size > 0 && percentile <= percentiles[size - 1])) {
+                throw new IllegalArgumentException("Percentiles have to be in range 0.0 - 100.0 and in ascending order, but " +
+                        percentile + " was added after " + Arrays.toString(percentiles));
+            }
+            double[] newPercentiles = Arrays.copyOf(percentiles, size + 1);
+            long[] newLatenciesNanos = Arrays.copyOf(latenciesNanos, size + 1);
+            newPercentiles[size] = percentile;
+            newLatenciesNanos[size] = latency.toNanos();
+            return new Percentiles(newPercentiles, newLatenciesNanos);
+        }
+
+        @Override
+        public long nextLatencyNanos() {
+            if (percentiles.length == 0) {
+                throw new IllegalStateException("No percentiles defined");
+            }
+            double percentile = ThreadLocalRandom.current().nextDouble(100.0);
+            double lowerPercentile = 0.0;
+            long lowerLatencyNanos = 0;
+            for (int i = 0; i < percentiles.length; i++) {
+                if (percentile <= percentiles[i]) {
+                    return interpolate(percentile, lowerPercentile, lowerLatencyNanos, percentiles[i], latenciesNanos[i]);
+                }
+                lowerPercentile = percentiles[i];
+                lowerLatencyNanos = latenciesNanos[i];
+            }
+            return latenciesNanos[latenciesNanos.length - 1];
+        }
+
+        private static long interpolate(double percentile, double lowerPercentile, long lowerLatencyNanos,
+                                        double upperPercentile, long upperLatencyNanos) {
+            if (upperPercentile == lowerPercentile) {   //only for a 0th percentile
+                return upperLatencyNanos;
+            }
+            double fraction = (percentile - lowerPercentile) / (upperPercentile - lowerPercentile);
+            return lowerLatencyNanos + (long) (fraction * (upperLatencyNanos - lowerLatencyNanos));
+        }
+    }
+}
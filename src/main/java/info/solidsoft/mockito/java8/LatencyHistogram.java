@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An internal, HdrHistogram-like histogram of latencies (in nanoseconds) with a fixed memory footprint.
+ *
+ * Values are recorded in log-linear buckets - every power of two range is divided into 8 sub-buckets, what gives a value
+ * precision of at least 12.5% for the whole {@code long} range (values lower than 16 are recorded exactly).
+ *
+ * Every bucket is counted with its own {@link LongAdder}, so threads recording similar latencies concurrently do not contend
+ * on the same counter. Reads sum up the adders and are not an atomic snapshot of concurrent recordings.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT_VALUES = 2 * SUB_BUCKET_COUNT;
+    private static final int FIRST_APPROXIMATED_EXPONENT = SUB_BUCKET_BITS + 1;
+    private static final int BUCKET_COUNT = EXACT_VALUES + (63 - FIRST_APPROXIMATED_EXPONENT) * SUB_BUCKET_COUNT;
+
+    private final LongAdder[] counts = newCounts();
+    private final LongAccumulator maxValue = new LongAccumulator(Math::max, 0);
+
+    void record(long value) {
+        long nonNegativeValue = Math.max(value, 0);
+        counts[bucketIndexOf(nonNegativeValue)].increment();
+        maxValue.accumulate(nonNegativeValue);
+    }
+
+    long getMaxValue() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the highest value equivalent (within histogram precision) to a value at a given percentile (0.0 - 100.0).
+     */
+    long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long totalCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts[i].sum();
+            totalCount += snapshot[i];
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long wantedCount = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += snapshot[i];
+            if (cumulativeCount >= wantedCount) {
+                return Math.min(highestEquivalentValueOf(i), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i].add(other.counts[i].sum());
+        }
+        maxValue.accumulate(other.getMaxValue());
+    }
+
+    private static LongAdder[] newCounts() {
+        LongAdder[] counts = new LongAdder[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = new LongAdder();
+        }
+        return counts;
+    }
+
+    static int bucketIndexOf(long value) {
+        if (value < EXACT_VALUES) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return EXACT_VALUES + (exponent - FIRST_APPROXIMATED_EXPONENT) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long lowestEquivalentValueOf(int bucketIndex) {
+        if (bucketIndex < EXACT_VALUES) {
+            return bucketIndex;
+        }
+        int exponent = (bucketIndex - EXACT_VALUES) / SUB_BUCKET_COUNT + FIRST_APPROXIMATED_EXPONENT;
+        long subBucket = (bucketIndex - EXACT_VALUES) % SUB_BUCKET_COUNT;
+        return (SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static long highestEquivalentValueOf(int bucketIndex) {
+        return bucketIndex + 1 < BUCKET_COUNT ? lowestEquivalentValueOf(bucketIndex + 1) - 1 : Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestInstancePostProcessor;
+import org.mockito.Incubating;
+import org.mockito.exceptions.base.MockitoException;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * JUnit 5 extension injecting lazy mocks (see {@link LazyMocks}) into fields annotated with {@link LazyMock}:
+ *
+ * <pre class="code"><code class="java">
+ * {@literal @}ExtendWith(LazyMockExtension.class)
+ * class ShipTest {
+ *
+ *   {@literal @}LazyMock
+ *   private ShipRegistry registry;
+ * }
+ * </code></pre>
+ *
+ * After all tests in a class a number of injected mocks which have never been used is published as a report entry
+ * ({@code lazyMocks.neverMaterialized}) - such collaborators are candidates to be removed from a test class.
+ * <p>
+ * JUnit Jupiter API is not a transitive dependency of this library - it has to be provided by a project using the extension.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class LazyMockExtension implements TestInstancePostProcessor, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(LazyMockExtension.class);
+    private static final String HANDLES_KEY = "handles";
+
+    @Override
+    public void postProcessTestInstance(Object testInstance, ExtensionContext context) {
+        List<Object> handles = handlesIn(context);
+        for (Class<?> type = testInstance.getClass(); type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(LazyMock.class)) {
+                    handles.add(injectLazyMock(testInstance, field));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        long neverMaterialized = handlesIn(context).stream()
+                .filter(handle -> !LazyMocks.isMaterialized(handle))
+                .count();
+        context.publishReportEntry("lazyMocks.neverMaterialized", String.valueOf(neverMaterialized));
+    }
+
+    private static Object injectLazyMock(Object testInstance, Field field) {
+        Object handle = LazyMocks.lazyMock(field.getType());
+        try {
+            field.setAccessible(true);
+            field.set(testInstance, handle);
+        } catch (IllegalAccessException e) {
+            throw new MockitoException("Unable to inject lazy mock into field " + field.getName(), e);
+        }
+        return handle;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> handlesIn(ExtensionContext context) {
+        //kept for a test class (not a test method) to be reported in afterAll()
+        ExtensionContext classContext = context.getTestClass().isPresent() && context.getTestMethod().isPresent()
+                ? context.getParent().orElse(context) : context;
+        return classContext.getStore(NAMESPACE).getOrComputeIfAbsent(HANDLES_KEY, key -> new CopyOnWriteArrayList<>(), List.class);
+    }
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.BDDMockito;
+import org.mockito.InOrder;
+import org.mockito.Incubating;
+import org.mockito.MockSettings;
+import org.mockito.Mockito;
+import org.mockito.internal.matchers.LocalizedMatcher;
+import org.mockito.internal.progress.ArgumentMatcherStorage;
+import org.mockito.internal.progress.ThreadSafeMockingProgress;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.Stubber;
+import org.mockito.verification.VerificationMode;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lazily created mocks - a thin handle is returned immediately and a real mock is created on the first interaction, stubbing
+ * or verification. It cuts setup time of test classes declaring many collaborators, of which only a few are used by a given test:
+ *
+ * <pre class="code"><code class="java">
+ * class ShipTest implements WithBDDMockito {
+ *
+ *   private final ShipRegistry registry = lazyMock(ShipRegistry.class);
+ *
+ *   {@literal @}Test
+ *   void shouldFindShip() {
+ *     given(registry.findShipName(1701)).willReturn("Enterprise");
+ *     //...
+ *     then(registry).should().findShipName(1701);
+ *   }
+ * }
+ * </code></pre>
+ *
+ * A handle is a lightweight JDK proxy, so only interfaces can be mocked lazily (a class is mocked immediately). As Mockito
+ * does not recognize a handle as a mock, verification and "do/will-given" style stubbing have to be performed with
+ * {@link info.solidsoft.mockito.java8.api.WithMockito} or {@link info.solidsoft.mockito.java8.api.WithBDDMockito} (which
+ * unwrap handles), or a mock has to be unwrapped explicitly with {@link #unwrap(Object)} for static Mockito methods. Handles
+ * are also accepted by {@link BulkVerification}, {@link InvocationAwaiter} and {@link StreamingCaptor#streamArgs}.
+ * Stubbing with {@code when()}/{@code given()} works with handles directly. Please note, that a location of an invocation made
+ * through a handle is reported by Mockito (e.g. in a verification failure message) as a reflection frame.
+ * <p>
+ * Numbers of created and materialized handles are counted (e.g. to find collaborators never used in tests). In JUnit 5 mocks
+ * can be also injected into fields annotated with {@link LazyMock} by {@link LazyMockExtension}.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class LazyMocks {
+
+    private static final LongAdder createdHandles = new LongAdder();
+    private static final LongAdder materializedHandles = new LongAdder();
+    private static volatile boolean anyHandleCreated;
+
+    private LazyMocks() {
+    }
+
+    public static <T> T lazyMock(Class<T> classToMock) {
+        return lazyMock(classToMock, Mockito.withSettings());
+    }
+
+    public static <T> T lazyMock(Class<T> classToMock, MockSettings mockSettings) {
+        if (!classToMock.isInterface()) {
+            return Mockito.mock(classToMock, mockSettings);
+        }
+        createdHandles.increment();
+        anyHandleCreated = true;
+        ClassLoader classLoader = classToMock.getClassLoader() != null ? classToMock.getClassLoader() : LazyMockHandle.class.getClassLoader();
+        return classToMock.cast(Proxy.newProxyInstance(classLoader, new Class<?>[]{classToMock, LazyMockHandle.class},
+                new LazyMockHandler<>(classToMock, mockSettings)));
+    }
+
+    /**
+     * Returns a real mock for a lazy mock handle (creating it if needed) or a given object itself for other objects.
+     */
+    public static <T> T unwrap(T mockOrHandle) {
+        if (mockOrHandle instanceof LazyMockHandle) {
+            @SuppressWarnings("unchecked")
+            T mock = (T) handlerOf(mockOrHandle).getOrCreateMock();
+            return mock;
+        }
+        return mockOrHandle;
+    }
+
+    /**
+     * Returns true if a real mock has been already created for a given handle (or a given object is not a lazy mock handle).
+     */
+    public static boolean isMaterialized(Object mockOrHandle) {
+        return !(mockOrHandle instanceof LazyMockHandle) || handlerOf(mockOrHandle).isMaterialized();
+    }
+
+    public static long getCreatedHandleCount() {
+        return createdHandles.sum();
+    }
+
+    public static long getMaterializedHandleCount() {
+        return materializedHandles.sum();
+    }
+
+    public static long getNeverMaterializedHandleCount() {
+        return getCreatedHandleCount() - getMaterializedHandleCount();
+    }
+
+    /**
+     * Returns real mocks for given lazy mock handles (other objects are returned as they are).
+     */
+    public static Object[] unwrapAll(Object... mocksOrHandles) {
+        if (mocksOrHandles == null) {
+            return null;
+        }
+        Object[] mocks = null;
+        for (int i = 0; i < mocksOrHandles.length; i++) {
+            if (mocksOrHandles[i] instanceof LazyMockHandle) {
+                if (mocks == null) {    //copied only if there is anything to unwrap
+                    mocks = mocksOrHandles.clone();
+                }
+                mocks[i] = unwrap(mocksOrHandles[i]);
+            }
+        }
+        return mocks != null ? mocks : mocksOrHandles;
+    }
+
+    /**
+     * Returns real mocks for given objects skipping handles of never materialized mocks (they could not have any interaction).
+     */
+    public static Object[] materializedOnly(Object... mocksOrHandles) {
+        return Arrays.stream(mocksOrHandles)
+                .filter(LazyMocks::isMaterialized)
+                .map(LazyMocks::unwrap)
+                .toArray();
+    }
+
+    /**
+     * Wraps a stubber to unwrap a lazy mock handle passed to {@code when()}: {@code unwrapping(doReturn(4)).when(handle).method()}.
+     * A stubber is returned as it is if no lazy mock has been created.
+     */
+    public static Stubber unwrapping(Stubber stubber) {
+        return anyHandleCreated ? new UnwrappingStubber(stubber) : stubber;
+    }
+
+    /**
+     * Wraps a BDD stubber to unwrap a lazy mock handle passed to {@code given()} (see {@link #unwrapping(Stubber)}).
+     */
+    public static BDDMockito.BDDStubber unwrapping(BDDMockito.BDDStubber stubber) {
+        return anyHandleCreated ? new UnwrappingBDDStubber(stubber) : stubber;
+    }
+
+    /**
+     * Wraps an InOrder to unwrap lazy mock handles passed to {@code verify()} (see {@link #unwrapping(Stubber)}).
+     */
+    public static InOrder unwrapping(InOrder inOrder) {
+        return anyHandleCreated ? new UnwrappingInOrder(inOrder) : inOrder;
+    }
+
+    private static Object invokeUnwrapped(Object target, Method method, Object[] arguments) throws Throwable {
+        try {
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static LazyMockHandler<?> handlerOf(Object handle) {
+        return (LazyMockHandler<?>) Proxy.getInvocationHandler(handle);
+    }
+
+    /**
+     * A marker interface implemented by handles to recognize them cheaply.
+     */
+    public interface LazyMockHandle {
+    }
+
+    private static class LazyMockHandler<T> implements InvocationHandler {
+
+        private final Class<T> classToMock;
+        private final MockSettings mockSettings;
+        private volatile T mock;
+
+        private LazyMockHandler(Class<T> classToMock, MockSettings mockSettings) {
+            this.classToMock = classToMock;
+            this.mockSettings = mockSettings;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == arguments[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return isMaterialized() ? mock.toString() : "Lazy mock for " + classToMock.getSimpleName() + " (not created yet)";
+                    default:
+                        break;
+                }
+            }
+            return invokeUnwrapped(getOrCreateMock(), method, arguments);
+        }
+
+        //matchers of a call which materializes a mock (e.g. given(handle.findShipName(anyInt()))) are already reported, but
+        //Mockito does not allow to create a mock with pending matchers
+        private T createMockKeepingPendingMatchers() {
+            ArgumentMatcherStorage matcherStorage = ThreadSafeMockingProgress.mockingProgress().getArgumentMatcherStorage();
+            List<LocalizedMatcher> pendingMatchers = matcherStorage.pullLocalizedMatchers();
+            try {
+                return Mockito.mock(classToMock, mockSettings);
+            } finally {
+                pendingMatchers.forEach(matcher -> matcherStorage.reportMatcher(matcher.getMatcher()));
+            }
+        }
+
+        private boolean isMaterialized() {
+            return mock != null;
+        }
+
+        private T getOrCreateMock() {
+            T existingMock = mock;
+            if (existingMock != null) {
+                return existingMock;
+            }
+            synchronized (this) {
+                if (mock == null) {
+                    mock = createMockKeepingPendingMatchers();
+                    materializedHandles.increment();
+                }
+                return mock;
+            }
+        }
+    }
+
+    private static class UnwrappingStubber implements Stubber {
+
+        private final Stubber stubber;
+
+        private UnwrappingStubber(Stubber stubber) {
+            this.stubber = stubber;
+        }
+
+        @Override
+        public <T> T when(T mock) {
+            return stubber.when(unwrap(mock));
+        }
+
+        @Override
+        public Stubber doThrow(Throwable... toBeThrown) {
+            stubber.doThrow(toBeThrown);
+            return this;
+        }
+
+        @Override
+        public Stubber doThrow(Class<? extends Throwable> toBeThrown) {
+            stubber.doThrow(toBeThrown);
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Stubber doThrow(Class<? extends Throwable> toBeThrown, Class<? extends Throwable>... nextToBeThrown) {
+            stubber.doThrow(toBeThrown, nextToBeThrown);
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")   //as declared in Stubber
+        public Stubber doAnswer(Answer answer) {
+            stubber.doAnswer(answer);
+            return this;
+        }
+
+        @Override
+        public Stubber doNothing() {
+            stubber.doNothing();
+            return this;
+        }
+
+        @Override
+        public Stubber doReturn(Object toBeReturned) {
+            stubber.doReturn(toBeReturned);
+            return this;
+        }
+
+        @Override
+        public Stubber doReturn(Object toBeReturned, Object... nextToBeReturned) {
+            stubber.doReturn(toBeReturned, nextToBeReturned);
+            return this;
+        }
+
+        @Override
+        public Stubber doCallRealMethod() {
+            stubber.doCallRealMethod();
+            return this;
+        }
+    }
+
+    private static class UnwrappingBDDStubber implements BDDMockito.BDDStubber {
+
+        private BDDMockito.BDDStubber stubber;  //a new BDDStubber is returned by every call in a chain
+
+        private UnwrappingBDDStubber(BDDMockito.BDDStubber stubber) {
+            this.stubber = stubber;
+        }
+
+        @Override
+        public <T> T given(T mock) {
+            return stubber.given(unwrap(mock));
+        }
+
+        @Override
+        public BDDMockito.BDDStubber willAnswer(Answer<?> answer) {
+            stubber = stubber.willAnswer(answer);
+            return this;
+        }
+
+        @Override
+        public BDDMockito.BDDStubber will(Answer<?> answer) {
+            stubber = stubber.will(answer);
+            return this;
+        }
+
+        @Override
+        @Deprecated
+        @SuppressWarnings("deprecation")
+        public BDDMockito.BDDStubber willNothing() {
+            stubber = stubber.willNothing();
+            return this;
+        }
+
+        @Override
+        public BDDMockito.BDDStubber willDoNothing() {
+            stubber = stubber.willDoNothing();
+            return this;
+        }
+
+        @Override
+        public BDDMockito.BDDStubber willReturn(Object toBeReturned) {
+            stubber = stubber.willReturn(toBeReturned);
+            return this;
+        }
+
+        @Override
+        public BDDMockito.BDDStubber willReturn(Object toBeReturned, Object... nextToBeReturned) {
+            stubber = stubber.willReturn(toBeReturned, nextToBeReturned);
+            return this;
+        }
+
+        @Override
+        public BDDMockito.BDDStubber willThrow(Throwable... toBeThrown) {
+            stubber = stubber.willThrow(toBeThrown);
+            return this;
+        }
+
+        @Override
+        public BDDMockito.BDDStubber willThrow(Class<? extends Throwable> toBeThrown) {
+            stubber = stubber.willThrow(toBeThrown);
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public BDDMockito.BDDStubber willThrow(Class<? extends Throwable> toBeThrown, Class<? extends Throwable>... nextToBeThrown) {
+            stubber = stubber.willThrow(toBeThrown, nextToBeThrown);
+            return this;
+        }
+
+        @Override
+        public BDDMockito.BDDStubber willCallRealMethod() {
+            stubber = stubber.willCallRealMethod();
+            return this;
+        }
+    }
+
+    private static class UnwrappingInOrder implements InOrder {
+
+        private final InOrder inOrder;
+
+        private UnwrappingInOrder(InOrder inOrder) {
+            this.inOrder = inOrder;
+        }
+
+        @Override
+        public <T> T verify(T mock) {
+            return inOrder.verify(unwrap(mock));
+        }
+
+        @Override
+        public <T> T verify(T mock, VerificationMode mode) {
+            return inOrder.verify(unwrap(mock), mode);
+        }
+
+        @Override
+        public void verifyNoMoreInteractions() {
+            inOrder.verifyNoMoreInteractions();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in profiler of {@link LambdaMatcher} and {@link AssertionMatcher} evaluations, which helps to find predicates and
+ * assertions dominating test execution time. It is enabled with a system property:
+ *
+ * <pre class="code"><code class="java">
+ *   ./gradlew test -Dmockito.java8.profileMatchers=true    //the property has to be also passed to a test JVM
+ * </code></pre>
+ *
+ * Evaluations are aggregated per matcher call site (e.g. {@code ShipTest.shouldFire(ShipTest.java:42)}) and a report
+ * ranked by a cumulative evaluation time is printed to {@code System.err} when the JVM shuts down (e.g. when a test suite
+ * executed by Gradle or Maven finishes). With JUnit 5 it can be also published as a report entry after every test class
+ * with {@link MatcherProfilerExtension} or taken at any time with {@link #report()}.
+ * <p>
+ * When disabled, the (constant) flag check is removed by the JIT compiler, so profiling costs nothing in matchers.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class MatcherProfiler {
+
+    public static final String ENABLED_PROPERTY = "mockito.java8.profileMatchers";
+
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final int REPORTED_CALL_SITES = 20;
+
+    private static final Map<String, Profile> profiles = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> System.err.println(report()), "mockito-java8-matcher-profiler"));
+        }
+    }
+
+    private MatcherProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns a profile for a matcher being created (shared by all matchers created at the same call site) or null if profiling
+     * is disabled.
+     */
+    static Profile profileForNewMatcher(String matcherName) {
+        if (!ENABLED) {
+            return null;
+        }
+        return profileFor(matcherName, callSiteIn(new Throwable().getStackTrace()));
+    }
+
+    //separated from profileForNewMatcher() to be testable with profiling disabled
+    static Profile profileFor(String matcherName, String callSite) {
+        String key = matcherName + " at " + callSite;
+        Profile profile = profiles.get(key);
+        return profile != null ? profile : profiles.computeIfAbsent(key, Profile::new);
+    }
+
+    static String callSiteIn(StackTraceElement[] stackTrace) {
+        for (StackTraceElement element : stackTrace) {
+            if (!isLibraryClass(element.getClassName())) {
+                return element.toString();
+            }
+        }
+        return "<unknown location>";
+    }
+
+    private static boolean isLibraryClass(String className) {
+        return isClassOrNestedClass(className, MatcherProfiler.class)
+                || isClassOrNestedClass(className, LambdaMatcher.class)
+                || isClassOrNestedClass(className, AssertionMatcher.class)
+                || className.startsWith("info.solidsoft.mockito.java8.api.");     //default methods of With* interfaces
+    }
+
+    private static boolean isClassOrNestedClass(String className, Class<?> type) {
+        //not just a prefix - e.g. LambdaMatcherTest is a call site
+        return className.equals(type.getName()) || className.startsWith(type.getName() + "$");
+    }
+
+    /**
+     * Returns a report of matcher call sites ranked by a cumulative evaluation time.
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder("Matcher profile (").append(profiles.size()).append(" call site(s), ranked by cumulative time):");
+        profiles.values().stream()
+                .sorted(Comparator.comparingLong(Profile::getCumulativeNanos).reversed())
+                .limit(REPORTED_CALL_SITES)
+                .forEach(profile -> report.append("\n - ").append(profile));
+        return report.toString();
+    }
+
+    /**
+     * Discards all collected profiles.
+     */
+    public static void reset() {
+        profiles.clear();
+    }
+
+    static class Profile {
+
+        private final String callSite;
+        private final LongAdder evaluationCounter = new LongAdder();
+        private final LongAdder cumulativeNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Profile(String callSite) {
+            this.callSite = callSite;
+        }
+
+        void record(long startTime) {
+            long elapsedNanos = System.nanoTime() - startTime;
+            evaluationCounter.increment();
+            cumulativeNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        long getEvaluationCount() {
+            return evaluationCounter.sum();
+        }
+
+        long getCumulativeNanos() {
+            return cumulativeNanos.sum();
+        }
+
+        long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d evaluation(s), cumulative %d us, max %d us", callSite, getEvaluationCount(),
+                    TimeUnit.NANOSECONDS.toMicros(getCumulativeNanos()), TimeUnit.NANOSECONDS.toMicros(getMaxNanos()));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.Incubating;
+
+/**
+ * JUnit 5 extension publishing a {@link MatcherProfiler} report (cumulative for all tests executed so far) as a report entry
+ * ({@code matcherProfiler.report}) after all tests in a class. It does nothing if profiling is disabled.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class MatcherProfilerExtension implements AfterAllCallback {
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        if (MatcherProfiler.isEnabled()) {
+            context.publishReportEntry("matcherProfiler.report", MatcherProfiler.report());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.exceptions.base.MockitoException;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An internal helper resolving a method pointed by a serializable method reference (e.g. {@code TacticalStation::fireTorpedo}).
+ *
+ * The method is resolved with {@link SerializedLambda} (taken from a compiler generated {@code writeReplace()} method) once
+ * per lambda class and cached.
+ */
+class MethodReferences {
+
+    private static final ClassValue<AtomicReference<ReferencedMethod>> referencedMethods = new ClassValue<AtomicReference<ReferencedMethod>>() {
+        @Override
+        protected AtomicReference<ReferencedMethod> computeValue(Class<?> lambdaType) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private MethodReferences() {
+    }
+
+    static ReferencedMethod referencedMethod(Serializable methodReference) {
+        AtomicReference<ReferencedMethod> cachedMethod = referencedMethods.get(methodReference.getClass());
+        ReferencedMethod referencedMethod = cachedMethod.get();
+        if (referencedMethod == null) {     //resolved at most a few times in a race, but always to the same value
+            referencedMethod = resolve(methodReference);
+            cachedMethod.set(referencedMethod);
+        }
+        return referencedMethod;
+    }
+
+    private static ReferencedMethod resolve(Serializable methodReference) {
+        SerializedLambda serializedLambda = serializedLambdaOf(methodReference);
+        if (serializedLambda.getImplMethodName().startsWith("lambda$")) {
+            throw new MockitoException("A method reference (e.g. TacticalStation::fireTorpedo) is expected, but a lambda expression was provided");
+        }
+        Method method = findMethod(methodReference.getClass().getClassLoader(), serializedLambda.getImplClass(),
+                serializedLambda.getImplMethodName(), serializedLambda.getImplMethodSignature());
+        return new ReferencedMethod(method, serializedLambda.getImplMethodSignature());
+    }
+
+    private static Method findMethod(ClassLoader classLoader, String implClass, String name, String descriptor) {
+        try {
+            Class<?> type = Class.forName(implClass.replace('/', '.'), false, classLoader);
+            for (Method method : type.getMethods()) {
+                if (name.equals(method.getName()) && descriptor.equals(descriptorOf(method))) {
+                    return method;
+                }
+            }
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {    //also not public methods
+                for (Method method : current.getDeclaredMethods()) {
+                    if (name.equals(method.getName()) && descriptor.equals(descriptorOf(method))) {
+                        return method;
+                    }
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            throw new MockitoException("Unable to load class " + implClass + " of referenced method " + name, e);
+        }
+        throw new MockitoException("Unable to find referenced method " + name + descriptor + " in " + implClass);
+    }
+
+    private static SerializedLambda serializedLambdaOf(Serializable methodReference) {
+        try {
+            Method writeReplace = methodReference.getClass().getDeclaredMethod("writeReplace");
+            writeReplace.setAccessible(true);
+            return (SerializedLambda) writeReplace.invoke(methodReference);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new MockitoException("Unable to resolve a method from method reference " + methodReference.getClass().getName(), e);
+        }
+    }
+
+    private static String descriptorOf(Method method) {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            appendDescriptor(descriptor, parameterType);
+        }
+        descriptor.append(')');
+        appendDescriptor(descriptor, method.getReturnType());
+        return descriptor.toString();
+    }
+
+    private static void appendDescriptor(StringBuilder descriptor, Class<?> type) {
+        if (type.isArray()) {
+            descriptor.append(type.getName().replace('.', '/'));
+        } else if (type.isPrimitive()) {
+            descriptor.append(primitiveDescriptorOf(type));
+        } else {
+            descriptor.append('L').append(type.getName().replace('.', '/')).append(';');
+        }
+    }
+
+    private static char primitiveDescriptorOf(Class<?> type) {
+        if (type == void.class) {
+            return 'V';
+        } else if (type == boolean.class) {
+            return 'Z';
+        } else if (type == long.class) {
+            return 'J';
+        } else {
+            return Character.toUpperCase(type.getName().charAt(0));     //int -> I, byte -> B, char -> C, short -> S, float -> F, double -> D
+        }
+    }
+
+    static class ReferencedMethod {
+
+        private final Method method;
+        private final String name;
+        private final String descriptor;
+        private volatile Method lastMatchedMethod;    //to do not build a descriptor for every compared invocation
+
+        private ReferencedMethod(Method method, String descriptor) {
+            this.method = method;
+            this.name = method.getName();
+            this.descriptor = descriptor;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Class<?> getParameterType(int index) {
+            return method.getParameterTypes()[index];
+        }
+
+        boolean isSameAs(Method method) {
+            if (method.equals(lastMatchedMethod)) {
+                return true;
+            }
+            if (name.equals(method.getName()) && descriptor.equals(descriptorOf(method))) {
+                lastMatchedMethod = method;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A per-thread pool of mocks reused between tests, to not create (and discard) thousands of mocks of the same types in
+ * parameterized tests and property based runs:
+ *
+ * <pre class="code"><code class="java">
+ * {@literal @}ExtendWith(MockPoolExtension.class)
+ * class ShipTest implements WithMockito {
+ *
+ *   {@literal @}ParameterizedTest
+ *   {@literal @}ValueSource(ints = {1701, 74205})
+ *   void shouldFindShip(int registryNumber) {
+ *     ShipRegistry registry = pooledMock(ShipRegistry.class);
+ *     //...
+ *   }
+ * }
+ * </code></pre>
+ *
+ * Mocks acquired by a thread are returned to its pool with {@link #releaseAll()} (called after every test by
+ * {@link MockPoolExtension}). A released mock is reset (its stubbings and invocations are discarded), so a mock acquired
+ * from a pool is always in a fresh state. At most {@value #DEFAULT_MAX_POOLED_MOCKS_PER_TYPE} idle mocks of a given type are
+ * kept in a pool by default (excessive ones are left to the garbage collector), which can be changed with
+ * a {@value #MAX_POOLED_MOCKS_PER_TYPE_PROPERTY} system property.
+ * <p>
+ * A mock used after being released (e.g. kept in a static field or by a background thread of a finished test) is a leak
+ * - it would interfere with a next test using it. Such a mock is counted ({@link #getLeakedMockCount()}) and is never handed
+ * out again. Only mocks created with default settings can be pooled.
+ * <p>
+ * {@link MockPoolExtension} releases mocks acquired by a thread running a test only. Other threads acquiring mocks (e.g.
+ * workers of a thread pool used by a test) have to call {@link #releaseAll()} themselves. Otherwise, to not keep their mocks
+ * forever, at most {@value #DEFAULT_MAX_ACQUIRED_MOCKS_PER_THREAD} acquired mocks are tracked per thread by default
+ * (configurable with a {@value #MAX_ACQUIRED_MOCKS_PER_THREAD_PROPERTY} system property) - the oldest not released mock
+ * above that limit is dropped from a pool and counted as leaked.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class MockPool {
+
+    public static final String MAX_POOLED_MOCKS_PER_TYPE_PROPERTY = "mockito.java8.maxPooledMocksPerType";
+    public static final int DEFAULT_MAX_POOLED_MOCKS_PER_TYPE = 16;
+
+    public static final String MAX_ACQUIRED_MOCKS_PER_THREAD_PROPERTY = "mockito.java8.maxAcquiredMocksPerThread";
+    public static final int DEFAULT_MAX_ACQUIRED_MOCKS_PER_THREAD = 1024;
+
+    private static final int MAX_POOLED_MOCKS_PER_TYPE = Integer.getInteger(MAX_POOLED_MOCKS_PER_TYPE_PROPERTY, DEFAULT_MAX_POOLED_MOCKS_PER_TYPE);
+    private static final int MAX_ACQUIRED_MOCKS_PER_THREAD = Integer.getInteger(MAX_ACQUIRED_MOCKS_PER_THREAD_PROPERTY, DEFAULT_MAX_ACQUIRED_MOCKS_PER_THREAD);
+
+    private static final ThreadLocal<MockPool> threadPools = ThreadLocal.withInitial(() -> new MockPool(MAX_POOLED_MOCKS_PER_TYPE, MAX_ACQUIRED_MOCKS_PER_THREAD));
+
+    private static final LongAdder createdMocks = new LongAdder();
+    private static final LongAdder reusedMocks = new LongAdder();
+    private static final LongAdder leakedMocks = new LongAdder();
+
+    private final int maxPooledMocksPerType;
+    private final Map<Class<?>, Deque<PooledMock>> idleMocks = new HashMap<>();
+    private final int maxAcquiredMocks;
+    private final Deque<PooledMock> acquiredMocks = new ArrayDeque<>();
+
+    private MockPool(int maxPooledMocksPerType, int maxAcquiredMocks) {
+        this.maxPooledMocksPerType = maxPooledMocksPerType;
+        this.maxAcquiredMocks = maxAcquiredMocks;
+    }
+
+    /**
+     * Returns a mock of a given type from a pool of a current thread (or a new one if there is no idle mock of that type).
+     */
+    public static <T> T pooledMock(Class<T> classToMock) {
+        return classToMock.cast(threadPools.get().acquire(classToMock));
+    }
+
+    /**
+     * Resets all mocks acquired by a current thread and returns them to its pool.
+     */
+    public static void releaseAll() {
+        threadPools.get().releaseAcquired();
+    }
+
+    public static long getCreatedMockCount() {
+        return createdMocks.sum();
+    }
+
+    public static long getReusedMockCount() {
+        return reusedMocks.sum();
+    }
+
+    /**
+     * Returns a number of mocks used after being returned to a pool or never returned (above a limit of acquired mocks).
+     */
+    public static long getLeakedMockCount() {
+        return leakedMocks.sum();
+    }
+
+    private Object acquire(Class<?> classToMock) {
+        PooledMock pooledMock = pollNotLeaked(classToMock);
+        if (pooledMock != null) {
+            reusedMocks.increment();
+        } else {
+            pooledMock = new PooledMock(classToMock);
+            createdMocks.increment();
+        }
+        pooledMock.idle = false;
+        if (acquiredMocks.size() >= maxAcquiredMocks) {
+            acquiredMocks.pollFirst().markLeaked();     //releaseAll() is apparently never called by this thread
+        }
+        acquiredMocks.addLast(pooledMock);
+        return pooledMock.mock;
+    }
+
+    private PooledMock pollNotLeaked(Class<?> classToMock) {
+        Deque<PooledMock> mocks = idleMocks.get(classToMock);
+        PooledMock pooledMock;
+        do {
+            pooledMock = mocks != null ? mocks.pollFirst() : null;
+        } while (pooledMock != null && pooledMock.leaked.get());
+        return pooledMock;
+    }
+
+    private void releaseAcquired() {
+        for (PooledMock pooledMock : acquiredMocks) {
+            Mockito.reset(pooledMock.mock);
+            pooledMock.idle = true;     //also for a mock dropped below, so its later use is still counted as a leak
+            Deque<PooledMock> mocks = idleMocks.computeIfAbsent(pooledMock.type, type -> new ArrayDeque<>());
+            if (mocks.size() < maxPooledMocksPerType) {
+                mocks.addFirst(pooledMock);     //the most recently used mock first
+            }
+        }
+        acquiredMocks.clear();
+    }
+
+    private static class PooledMock {
+
+        private final Class<?> type;
+        private final Object mock;
+        private final AtomicBoolean leaked = new AtomicBoolean();
+        private volatile boolean idle;
+
+        private PooledMock(Class<?> type) {
+            this.type = type;
+            this.mock = Mockito.mock(type, Mockito.withSettings().invocationListeners(report -> {
+                if (idle) {
+                    markLeaked();
+                }
+            }));
+        }
+
+        private void markLeaked() {
+            if (leaked.compareAndSet(false, true)) {
+                leakedMocks.increment();
+            }
+        }
+    }
+}
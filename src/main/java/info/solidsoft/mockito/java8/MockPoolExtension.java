@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.Incubating;
+
+/**
+ * JUnit 5 extension returning mocks acquired with {@link MockPool#pooledMock(Class)} to a pool after every test. After all
+ * tests in a class a total number of leaked mocks (used after being returned to a pool or never returned) is published as a report entry
+ * ({@code mockPool.leakedMocks}).
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class MockPoolExtension implements AfterEachCallback, AfterAllCallback {
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        MockPool.releaseAll();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        context.publishReportEntry("mockPool.leakedMocks", String.valueOf(MockPool.getLeakedMockCount()));
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.mockito.Incubating;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JUnit 5 extension starting {@link MockPreloader} - types listed in manifests are preloaded once per JVM (when the first
+ * test class using the extension starts) and types of mock fields of every test class before its tests. It is most useful
+ * registered in a common base test class, so mock classes are generated while other test classes are executed.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class MockPreloadExtension implements BeforeAllCallback {
+
+    private static final AtomicBoolean manifestPreloadStarted = new AtomicBoolean();
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (manifestPreloadStarted.compareAndSet(false, true)) {
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            MockPreloader.preloadFromManifest(contextClassLoader != null ? contextClassLoader : MockPreloadExtension.class.getClassLoader());
+        }
+        context.getTestClass().ifPresent(MockPreloader::preloadMockFieldsOf);
+    }
+}
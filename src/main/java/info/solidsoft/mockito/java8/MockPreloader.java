@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates mock classes for given types in a background thread ahead of their first use, to take bytecode generation
+ * (tens of milliseconds for the first mock of a type) off the critical path of tests. Mockito caches generated mock classes,
+ * so a later {@code mock()} of a preloaded type (with any settings not adding extra interfaces or serialization) only
+ * instantiates an already generated class:
+ *
+ * <pre class="code"><code class="java">
+ *   MockPreloader.preload(TacticalStation.class, ShipRegistry.class);
+ * </code></pre>
+ *
+ * Types to preload can be also listed (one fully qualified class name per line, {@code #} starts a comment) in
+ * {@value #MANIFEST_LOCATION} resources on a test classpath and are preloaded with {@link #preloadFromManifest(ClassLoader)},
+ * or taken from fields annotated with {@link Mock}, {@link Spy} and {@link LazyMock} with {@link #preloadMockFieldsOf(Class)}.
+ * In JUnit 5 both are done by {@link MockPreloadExtension}.
+ * <p>
+ * Preloading is only an optimization - a type which cannot be mocked (or loaded) is skipped and a mock is generated (and
+ * a potential error is reported) as usual on its first use.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class MockPreloader {
+
+    public static final String MANIFEST_LOCATION = "META-INF/mockito-java8/preloaded-mocks";
+
+    private static final Set<Class<?>> requestedTypes = ConcurrentHashMap.newKeySet();
+    private static final LongAdder preloadedTypes = new LongAdder();
+
+    private MockPreloader() {
+    }
+
+    /**
+     * Generates mock classes for given types in a background thread. Types already requested to be preloaded are skipped.
+     */
+    public static CompletableFuture<Void> preload(Class<?>... types) {
+        List<Class<?>> newTypes = new ArrayList<>(types.length);
+        for (Class<?> type : types) {
+            if (requestedTypes.add(type)) {
+                newTypes.add(type);
+            }
+        }
+        if (newTypes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> newTypes.forEach(MockPreloader::generateMockClass), SharedExecutor.INSTANCE);
+    }
+
+    /**
+     * Preloads types listed in all {@value #MANIFEST_LOCATION} resources visible for a given class loader.
+     */
+    public static CompletableFuture<Void> preloadFromManifest(ClassLoader classLoader) {
+        //resources are also read in the background to do not delay a caller
+        return CompletableFuture.supplyAsync(() -> typesListedInManifests(classLoader), SharedExecutor.INSTANCE)
+                .thenCompose(types -> preload(types.toArray(new Class<?>[0])));
+    }
+
+    /**
+     * Preloads types of fields (declared in a given test class and its superclasses) annotated with
+     * {@link Mock}, {@link Spy} or {@link LazyMock}.
+     */
+    public static CompletableFuture<Void> preloadMockFieldsOf(Class<?> testClass) {
+        List<Class<?>> types = new ArrayList<>();
+        for (Class<?> type = testClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Mock.class) || field.isAnnotationPresent(Spy.class) || field.isAnnotationPresent(LazyMock.class)) {
+                    types.add(field.getType());
+                }
+            }
+        }
+        return preload(types.toArray(new Class<?>[0]));
+    }
+
+    /**
+     * Returns a number of types for which mock classes have been successfully generated by the preloader.
+     */
+    public static long getPreloadedTypeCount() {
+        return preloadedTypes.sum();
+    }
+
+    private static void generateMockClass(Class<?> type) {
+        try {
+            Mockito.mock(type, Mockito.withSettings().stubOnly());  //a mock instance is discarded, a generated class is cached by Mockito
+            preloadedTypes.increment();
+        } catch (RuntimeException e) {
+            //ignored - a mock will be created (and an error reported) as usual on first use
+        }
+    }
+
+    private static List<Class<?>> typesListedInManifests(ClassLoader classLoader) {
+        List<Class<?>> types = new ArrayList<>();
+        for (URL manifest : manifestsIn(classLoader)) {
+            for (String className : classNamesListedIn(manifest)) {
+                try {
+                    types.add(Class.forName(className, false, classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    //ignored - a stale entry should not break tests
+                }
+            }
+        }
+        return types;
+    }
+
+    private static List<URL> manifestsIn(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> manifests = classLoader.getResources(MANIFEST_LOCATION);
+            return Collections.list(manifests);
+        } catch (IOException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private static List<String> classNamesListedIn(URL manifest) {
+        List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(manifest.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int commentStart = line.indexOf('#');
+                String className = (commentStart >= 0 ? line.substring(0, commentStart) : line).trim();
+                if (!className.isEmpty()) {
+                    classNames.add(className);
+                }
+            }
+        } catch (IOException e) {
+            //ignored - types listed so far are preloaded
+        }
+        return classNames;
+    }
+
+    /**
+     * A lazily created executor with one daemon thread - Mockito generates mock classes under a lock anyway.
+     */
+    private static class SharedExecutor {
+
+        private static final ExecutorService INSTANCE = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mockito-java8-mock-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+import java.io.Serializable;
+import java.util.function.Function;
+
+/**
+ * A serializable reference to a getter, e.g. {@code ShipSearchCriteria::getMinimumRange}, used to find out (once per method
+ * reference) a name of a read property.
+ *
+ * @param <T> type of object
+ * @param <P> type of property
+ *
+ * @see PropertyMatcher
+ * @since 2.6.0
+ */
+@FunctionalInterface
+@Incubating
+public interface PropertyGetter<T, P> extends Function<T, P>, Serializable {
+
+    /**
+     * A variant of PropertyGetter for int properties, read without boxing.
+     */
+    @FunctionalInterface
+    interface OfInt<T> extends Serializable {
+
+        int get(T object);
+    }
+
+    /**
+     * A variant of PropertyGetter for long properties, read without boxing.
+     */
+    @FunctionalInterface
+    interface OfLong<T> extends Serializable {
+
+        long get(T object);
+    }
+
+    /**
+     * A variant of PropertyGetter for double properties, read without boxing.
+     */
+    @FunctionalInterface
+    interface OfDouble<T> extends Serializable {
+
+        double get(T object);
+    }
+}
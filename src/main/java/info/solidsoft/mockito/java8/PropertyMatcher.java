@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.ArgumentMatcher;
+import org.mockito.Incubating;
+
+import java.io.Serializable;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import static org.mockito.ArgumentMatchers.argThat;
+
+/**
+ * Matches an argument by a property read with a getter method reference. In contrast to {@code argLambda()} a mismatch
+ * report names the property and its actual value:
+ *
+ * <pre class="code"><code class="java">
+ *   verify(ts).findNumberOfShipsInRangeByCriteria(argProperty(ShipSearchCriteria::getMinimumRange, r -&gt; r &gt; 1000));
+ *   //Argument(s) are different! Wanted:
+ *   //tacticalStation.findNumberOfShipsInRangeByCriteria(
+ *   //    minimumRange matching predicate (minimumRange was 700)
+ *   //);
+ * </code></pre>
+ *
+ * A property name is derived from a getter name (e.g. {@code getMinimumRange()} -&gt; {@code minimumRange}), resolved once per
+ * method reference (see {@link PropertyGetter}). A property is read once per evaluation and primitive variants
+ * ({@link #argIntProperty(PropertyGetter.OfInt, IntPredicate)} etc.) do not box a property value to match it. A {@code null}
+ * argument does not match.
+ * <p>
+ * A reported value is the one from the last mismatched evaluation, which for a failed verification is a value of the last
+ * invocation of a verified method.
+ *
+ * @param <T> type of argument
+ * @param <P> type of property
+ *
+ * @see LambdaMatcher
+ * @since 2.6.0
+ */
+@Incubating
+public class PropertyMatcher<T, P> implements ArgumentMatcher<T> {
+
+    private static final String DEFAULT_DESCRIPTION = "matching predicate";
+
+    private final PropertyGetter<T, P> getter;
+    private final Predicate<? super P> predicate;
+    private final String propertyName;
+    private final String description;
+    private volatile MismatchedValue<P> lastMismatch;   //wrapped, as a property value can be null
+
+    private PropertyMatcher(PropertyGetter<T, P> getter, Predicate<? super P> predicate, String description) {
+        this.getter = getter;
+        this.predicate = predicate;
+        this.propertyName = propertyNameOf(getter);
+        this.description = description;
+    }
+
+    @Override
+    public boolean matches(T argument) {
+        if (argument == null) {
+            return false;
+        }
+        P value = getter.apply(argument);
+        if (predicate.test(value)) {
+            return true;
+        }
+        lastMismatch = new MismatchedValue<>(value);
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        MismatchedValue<P> mismatch = lastMismatch;
+        return describe(propertyName, description, mismatch != null, mismatch != null ? mismatch.value : null);
+    }
+
+    public static <T, P> T argProperty(PropertyGetter<T, P> getter, Predicate<? super P> predicate) {
+        return argProperty(getter, predicate, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argProperty(PropertyGetter, Predicate) with a predicate description (e.g. "above 1000" to be reported as
+     * "minimumRange above 1000").
+     */
+    public static <T, P> T argProperty(PropertyGetter<T, P> getter, Predicate<? super P> predicate, String description) {
+        return argThat(new PropertyMatcher<>(getter, predicate, description));
+    }
+
+    /**
+     * Creates a matcher to be used with {@code argThat()} when it is needed to keep a reference to it.
+     */
+    public static <T, P> PropertyMatcher<T, P> property(PropertyGetter<T, P> getter, Predicate<? super P> predicate) {
+        return new PropertyMatcher<>(getter, predicate, DEFAULT_DESCRIPTION);
+    }
+
+    /**
+     * A variant of argProperty(PropertyGetter, Predicate) for int properties.
+     */
+    public static <T> T argIntProperty(PropertyGetter.OfInt<T> getter, IntPredicate predicate) {
+        return argIntProperty(getter, predicate, DEFAULT_DESCRIPTION);
+    }
+
+    public static <T> T argIntProperty(PropertyGetter.OfInt<T> getter, IntPredicate predicate, String description) {
+        return argThat(new IntPropertyMatcher<>(getter, predicate, description));
+    }
+
+    /**
+     * A variant of argProperty(PropertyGetter, Predicate) for long properties.
+     */
+    public static <T> T argLongProperty(PropertyGetter.OfLong<T> getter, LongPredicate predicate) {
+        return argLongProperty(getter, predicate, DEFAULT_DESCRIPTION);
+    }
+
+    public static <T> T argLongProperty(PropertyGetter.OfLong<T> getter, LongPredicate predicate, String description) {
+        return argThat(new LongPropertyMatcher<>(getter, predicate, description));
+    }
+
+    /**
+     * A variant of argProperty(PropertyGetter, Predicate) for double properties.
+     */
+    public static <T> T argDoubleProperty(PropertyGetter.OfDouble<T> getter, DoublePredicate predicate) {
+        return argDoubleProperty(getter, predicate, DEFAULT_DESCRIPTION);
+    }
+
+    public static <T> T argDoubleProperty(PropertyGetter.OfDouble<T> getter, DoublePredicate predicate, String description) {
+        return argThat(new DoublePropertyMatcher<>(getter, predicate, description));
+    }
+
+    private static String propertyNameOf(Serializable getter) {
+        String methodName = MethodReferences.referencedMethod(getter).getName();
+        if (methodName.startsWith("get") && methodName.length() > 3) {
+            return decapitalize(methodName.substring(3));
+        } else if (methodName.startsWith("is") && methodName.length() > 2) {
+            return decapitalize(methodName.substring(2));
+        }
+        return methodName;  //e.g. a record style accessor
+    }
+
+    //as in java.beans.Introspector (not used to do not require the java.desktop module): URL -> URL, MinimumRange -> minimumRange
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String describe(String propertyName, String description, boolean mismatched, Object mismatchedValue) {
+        String propertyDescription = propertyName + " " + description;
+        return mismatched ? propertyDescription + " (" + propertyName + " was " + mismatchedValue + ")" : propertyDescription;
+    }
+
+    private static class MismatchedValue<P> {
+
+        private final P value;
+
+        private MismatchedValue(P value) {
+            this.value = value;
+        }
+    }
+
+    private static class IntPropertyMatcher<T> implements ArgumentMatcher<T> {
+
+        private final PropertyGetter.OfInt<T> getter;
+        private final IntPredicate predicate;
+        private final String propertyName;
+        private final String description;
+        private volatile boolean mismatched;
+        private volatile int lastMismatchedValue;
+
+        private IntPropertyMatcher(PropertyGetter.OfInt<T> getter, IntPredicate predicate, String description) {
+            this.getter = getter;
+            this.predicate = predicate;
+            this.propertyName = propertyNameOf(getter);
+            this.description = description;
+        }
+
+        @Override
+        public boolean matches(T argument) {
+            if (argument == null) {
+                return false;
+            }
+            int value = getter.get(argument);
+            if (predicate.test(value)) {
+                return true;
+            }
+            lastMismatchedValue = value;
+            mismatched = true;
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return describe(propertyName, description, mismatched, lastMismatchedValue);
+        }
+    }
+
+    private static class LongPropertyMatcher<T> implements ArgumentMatcher<T> {
+
+        private final PropertyGetter.OfLong<T> getter;
+        private final LongPredicate predicate;
+        private final String propertyName;
+        private final String description;
+        private volatile boolean mismatched;
+        private volatile long lastMismatchedValue;
+
+        private LongPropertyMatcher(PropertyGetter.OfLong<T> getter, LongPredicate predicate, String description) {
+            this.getter = getter;
+            this.predicate = predicate;
+            this.propertyName = propertyNameOf(getter);
+            this.description = description;
+        }
+
+        @Override
+        public boolean matches(T argument) {
+            if (argument == null) {
+                return false;
+            }
+            long value = getter.get(argument);
+            if (predicate.test(value)) {
+                return true;
+            }
+            lastMismatchedValue = value;
+            mismatched = true;
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return describe(propertyName, description, mismatched, lastMismatchedValue);
+        }
+    }
+
+    private static class DoublePropertyMatcher<T> implements ArgumentMatcher<T> {
+
+        private final PropertyGetter.OfDouble<T> getter;
+        private final DoublePredicate predicate;
+        private final String propertyName;
+        private final String description;
+        private volatile boolean mismatched;
+        private volatile double lastMismatchedValue;
+
+        private DoublePropertyMatcher(PropertyGetter.OfDouble<T> getter, DoublePredicate predicate, String description) {
+            this.getter = getter;
+            this.predicate = predicate;
+            this.propertyName = propertyNameOf(getter);
+            this.description = description;
+        }
+
+        @Override
+        public boolean matches(T argument) {
+            if (argument == null) {
+                return false;
+            }
+            double value = getter.get(argument);
+            if (predicate.test(value)) {
+                return true;
+            }
+            lastMismatchedValue = value;
+            mismatched = true;
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return describe(propertyName, description, mismatched, lastMismatchedValue);
+        }
+    }
+}
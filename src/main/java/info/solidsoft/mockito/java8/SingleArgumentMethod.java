@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+
+import java.io.Serializable;
+
+/**
+ * A serializable reference to a mocked method with one argument, e.g. {@code TacticalStation::findNumberOfShipsInRangeByCriteria}.
+ * <p>
+ * It is never called, it is only used to find out (once per method reference) which method is pointed.
+ *
+ * @param <M> type of mock
+ * @param <A> type of argument
+ *
+ * @since 2.6.0
+ */
+@FunctionalInterface
+@Incubating
+public interface SingleArgumentMethod<M, A> extends Serializable {
+
+    void call(M mock, A argument);
+}
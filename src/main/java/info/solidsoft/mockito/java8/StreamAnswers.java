@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.Incubating;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.ValidableAnswer;
+
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Answers producing return values lazily:
+ *
+ * <pre class="code"><code class="java">
+ *   given(registry.streamShipNames()).willAnswer(returnsFreshStream(() -&gt; Stream.of("Enterprise", "Defiant")));
+ *   given(registry.nextRegistryNumber()).willAnswer(returnsElementsOf(IntStream.range(0, 10_000_000).boxed()));
+ * </code></pre>
+ *
+ * {@link #returnsFreshStream(Supplier)} gives every call a new stream (a stream stubbed with {@code willReturn()} can be consumed
+ * only once). It can be used also for methods returning {@link Iterator} or {@link Iterable}.
+ * <p>
+ * {@link #returnsElementsOf(Iterator)} returns consecutive elements of an iterator (or a stream) drawn on demand, so (in contrary
+ * to consecutive stubbing with varargs) even millions of values take constant memory and no setup time. As in
+ * {@link org.mockito.AdditionalAnswers#returnsElementsOf(java.util.Collection)}, the last element is returned when there are no
+ * more elements.
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class StreamAnswers {
+
+    private StreamAnswers() {
+    }
+
+    public static <T> Answer<Object> returnsFreshStream(Supplier<Stream<T>> streamSupplier) {
+        return new FreshStreamAnswer<>(streamSupplier);
+    }
+
+    public static <T> Answer<T> returnsElementsOf(Iterator<T> elements) {
+        return new ElementsOfIteratorAnswer<>(elements);
+    }
+
+    /**
+     * A variant of returnsElementsOf(Iterator) for a (potentially infinite) stream, which is consumed lazily.
+     */
+    public static <T> Answer<T> returnsElementsOf(Stream<T> elements) {
+        return new ElementsOfIteratorAnswer<>(elements.iterator());
+    }
+
+    private static class FreshStreamAnswer<T> implements Answer<Object>, ValidableAnswer {
+
+        private final Supplier<Stream<T>> streamSupplier;
+
+        private FreshStreamAnswer(Supplier<Stream<T>> streamSupplier) {
+            this.streamSupplier = streamSupplier;
+        }
+
+        @Override
+        public Object answer(InvocationOnMock invocation) {
+            Class<?> returnType = invocation.getMethod().getReturnType();
+            if (returnType == Iterator.class) {
+                return streamSupplier.get().iterator();
+            } else if (returnType == Iterable.class) {
+                return (Iterable<T>) () -> streamSupplier.get().iterator();    //every iteration with a fresh stream
+            }
+            return streamSupplier.get();
+        }
+
+        @Override
+        public void validateFor(InvocationOnMock invocation) {
+            Class<?> returnType = invocation.getMethod().getReturnType();
+            if (!returnType.isAssignableFrom(Stream.class) && returnType != Iterator.class && returnType != Iterable.class) {
+                throw new MockitoException(String.format("Fresh stream can be only returned from method returning Stream, Iterator or Iterable, " +
+                        "but %s() returns %s", invocation.getMethod().getName(), returnType.getSimpleName()));
+            }
+        }
+    }
+
+    private static class ElementsOfIteratorAnswer<T> implements Answer<T> {
+
+        private final Iterator<T> elements;
+        private T lastElement;
+        private boolean anyElementReturned;
+
+        private ElementsOfIteratorAnswer(Iterator<T> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public synchronized T answer(InvocationOnMock invocation) {     //iterators are not thread-safe
+            if (elements.hasNext()) {
+                lastElement = elements.next();
+                anyElementReturned = true;
+            } else if (!anyElementReturned) {
+                throw new MockitoException("No elements to return from " + invocation.getMethod().getName() + "() - an empty iterator (or stream) was provided");
+            }
+            return lastElement;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.mockito.ArgumentMatchers;
+import org.mockito.Incubating;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+import java.util.function.Consumer;
+
+/**
+ * Allows passing arguments of mock calls to a sink (e.g. a histogram) as the calls happen, without collecting them in a list
+ * (as ArgumentCaptor does), which is useful to aggregate arguments of millions of calls in a constant memory:
+ *
+ * <pre class="code"><code class="java">
+ *   TacticalStation ts = mock(TacticalStation.class, withSettings().stubOnly());
+ *   streamArgs(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -&gt; rangeHistogram.record(c.getMinimumRange()));
+ * </code></pre>
+ *
+ * or, if a call should be also stubbed:
+ *
+ * <pre class="code"><code class="java">
+ *   given(ts.findNumberOfShipsInRangeByCriteria(any(ShipSearchCriteria.class)))
+ *           .will(captureFirstArgInto(c -&gt; rangeHistogram.record(c.getMinimumRange()), invocation -&gt; 4));
+ * </code></pre>
+ *
+ * Please note, that Mockito itself records all invocations on a mock to make verification possible. To do not keep arguments
+ * in memory at all a mock has to be created as "stub only" ({@code withSettings().stubOnly()}).
+ *
+ * @since 2.6.0
+ */
+@Incubating
+public class StreamingCaptor {
+
+    private StreamingCaptor() {
+    }
+
+    /**
+     * Answers with a given answer passing the first argument of a call to a given sink first. As an answer is executed
+     * once per mock call (in contrast to argument matchers which can be evaluated several times), the sink receives
+     * every argument exactly once.
+     *
+     * Please note, that a stubbed answer is also executed for a mock call made while stubbing the same method again.
+     * To do not pass {@code null} to the sink in that case, a matcher rejecting {@code null} (e.g. {@code any(Class)})
+     * should be used in stubbing.
+     */
+    public static <A, R> Answer<R> captureFirstArgInto(Consumer<A> sink, Answer<R> answer) {
+        return invocation -> {
+            sink.accept(invocation.getArgument(0));
+            return answer.answer(invocation);
+        };
+    }
+
+    /**
+     * Stubs a given method to pass an argument of every call to a given sink. A value returned from a call is provided with
+     * a default answer of a mock. Calls with a {@code null} argument are not passed to the sink.
+     */
+    public static <M, A> void streamArgs(M mockOrLazyHandle, SingleArgumentMethod<M, A> method, Consumer<? super A> sink) {
+        M mock = LazyMocks.unwrap(mockOrLazyHandle);
+        MethodReferences.ReferencedMethod referencedMethod = MethodReferences.referencedMethod(method);
+        Answer<?> defaultAnswer = Mockito.mockingDetails(mock).getMockCreationSettings().getDefaultAnswer();
+        M stubbedMock = Mockito.doAnswer(captureFirstArgInto(sink, defaultAnswer)).when(mock);
+        method.call(stubbedMock, anyOf(referencedMethod.getParameterType(0)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> A anyOf(Class<?> parameterType) {
+        return (A) ArgumentMatchers.any(parameterType);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An internal memo of boolean results (e.g. of a predicate) for arguments compared by identity. Arguments are weakly
+ * referenced, so they are not kept in memory by the memo - entries of collected arguments are expunged on next access.
+ * A {@code null} argument is memoized as any other one.
+ */
+class WeakIdentityResults {
+
+    private final ConcurrentMap<IdentityKey, Boolean> results = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collectedArguments = new ReferenceQueue<>();
+    private volatile Boolean nullArgumentResult;
+
+    /**
+     * Returns a memoized result for a given argument or null if there is none.
+     */
+    Boolean get(Object argument) {
+        if (argument == null) {
+            return nullArgumentResult;
+        }
+        expungeCollected();
+        return results.get(new IdentityKey(argument, null));
+    }
+
+    void put(Object argument, boolean result) {
+        if (argument == null) {
+            nullArgumentResult = result;
+            return;
+        }
+        expungeCollected();
+        results.put(new IdentityKey(argument, collectedArguments), result);
+    }
+
+    void clear() {
+        nullArgumentResult = null;
+        results.clear();
+    }
+
+    private void expungeCollected() {
+        Reference<?> collected;
+        while ((collected = collectedArguments.poll()) != null) {
+            results.remove(collected);
+        }
+    }
+
+    private static class IdentityKey extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        private IdentityKey(Object argument, ReferenceQueue<Object> queue) {
+            super(argument, queue);
+            this.hashCode = System.identityHashCode(argument);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Object argument = get();
+            return argument != null && argument == ((IdentityKey) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -5,10 +5,25 @@
  */
 package info.solidsoft.mockito.java8.api;
 
+import info.solidsoft.mockito.java8.DelayedAnswers;
+import info.solidsoft.mockito.java8.DispatchAnswer;
+import info.solidsoft.mockito.java8.FutureAnswers;
+import info.solidsoft.mockito.java8.LambdaAnswer;
+import info.solidsoft.mockito.java8.LatencyDistribution;
+import info.solidsoft.mockito.java8.LazyMocks;
+import info.solidsoft.mockito.java8.StreamAnswers;
 import org.mockito.BDDMockito;
 import org.mockito.Incubating;
 import org.mockito.stubbing.Answer;
 
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 /**
  * An entry point to Mockito stubbing/mocking API in BDD style with basic matchers.
  * <p>
@@ -73,55 +88,314 @@ public interface WithBDDMockito extends WithMockito {
      * Delegates call to {@link BDDMockito#then(Object)}
      */
     default <T> BDDMockito.Then<T> then(T mock) {
-        return BDDMockito.then(mock);
+        return BDDMockito.then(LazyMocks.unwrap(mock));
     }
 
     /**
      * Delegates call to {@link BDDMockito#willThrow(Throwable...)}
      */
     default BDDMockito.BDDStubber willThrow(Throwable... toBeThrown) {
-        return BDDMockito.willThrow(toBeThrown);
+        return LazyMocks.unwrapping(BDDMockito.willThrow(toBeThrown));
     }
 
     /**
      * Delegates call to {@link BDDMockito#willThrow(Class)}
      */
     default BDDMockito.BDDStubber willThrow(Class<? extends Throwable> toBeThrown) {
-        return BDDMockito.willThrow(toBeThrown);
+        return LazyMocks.unwrapping(BDDMockito.willThrow(toBeThrown));
     }
 
     /**
      * Delegates call to {@link BDDMockito#doAnswer(Answer)}
      */
     default BDDMockito.BDDStubber willAnswer(Answer answer) {
-        return BDDMockito.willAnswer(answer);
+        return LazyMocks.unwrapping(BDDMockito.willAnswer(answer));
     }
 
     /**
      * Delegates call to {@link BDDMockito#doNothing()}
      */
     default BDDMockito.BDDStubber willDoNothing() {
-        return BDDMockito.willDoNothing();
+        return LazyMocks.unwrapping(BDDMockito.willDoNothing());
     }
 
     /**
      * Delegates call to {@link BDDMockito#doReturn(Object)}
      */
     default BDDMockito.BDDStubber willReturn(Object toBeReturned) {
-        return BDDMockito.willReturn(toBeReturned);
+        return LazyMocks.unwrapping(BDDMockito.willReturn(toBeReturned));
     }
 
     /**
      * Delegates call to {@link BDDMockito#doReturn(Object, Object...)}
      */
     default BDDMockito.BDDStubber willReturn(Object toBeReturned, Object... toBeReturnedNext) {
-        return BDDMockito.willReturn(toBeReturned, toBeReturnedNext);
+        return LazyMocks.unwrapping(BDDMockito.willReturn(toBeReturned, toBeReturnedNext));
     }
 
     /**
      * Delegates call to {@link BDDMockito#doCallRealMethod()}
      */
     default BDDMockito.BDDStubber willCallRealMethod() {
-        return BDDMockito.willCallRealMethod();
+        return LazyMocks.unwrapping(BDDMockito.willCallRealMethod());
+    }
+
+    /**
+     * Delegates call to {@link DispatchAnswer#givenTable(Object)}
+     *
+     * @since 2.6.0
+     */
+    default <A, R> DispatchAnswer<A, R> givenTable(R methodCall) {
+        return DispatchAnswer.givenTable(methodCall);
+    }
+
+    /**
+     * Stubs a method with a given dispatch table in the "will-given" style: {@code willDispatch(table).given(mock).method(any())}.
+     *
+     * @since 2.6.0
+     */
+    default BDDMockito.BDDStubber willDispatch(DispatchAnswer<?, ?> dispatchTable) {
+        return willAnswer(dispatchTable);
+    }
+
+    /**
+     * Stubs a method with a typed lambda answer in the "will-given" style: {@code willAnswerWith(lambda).given(mock).method(any())}.
+     *
+     * @see LambdaAnswer#answerWith(Function)
+     * @since 2.6.0
+     */
+    default <A1, R> BDDMockito.BDDStubber willAnswerWith(Function<A1, R> lambda) {
+        return willAnswer(LambdaAnswer.answerWith(lambda));
+    }
+
+    /**
+     * Stubs a method with a typed lambda answer in the "will-given" style: {@code willAnswerWith(lambda).given(mock).method(any())}.
+     *
+     * @see LambdaAnswer#answerWith(BiFunction)
+     * @since 2.6.0
+     */
+    default <A1, A2, R> BDDMockito.BDDStubber willAnswerWith(BiFunction<A1, A2, R> lambda) {
+        return willAnswer(LambdaAnswer.answerWith(lambda));
+    }
+
+    /**
+     * Stubs a method with a typed lambda answer in the "will-given" style: {@code willAnswerWith(lambda).given(mock).method(any())}.
+     *
+     * @see LambdaAnswer#answerWith(LambdaAnswer.Function3)
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, R> BDDMockito.BDDStubber willAnswerWith(LambdaAnswer.Function3<A1, A2, A3, R> lambda) {
+        return willAnswer(LambdaAnswer.answerWith(lambda));
+    }
+
+    /**
+     * Stubs a method with a typed lambda answer in the "will-given" style: {@code willAnswerWith(lambda).given(mock).method(any())}.
+     *
+     * @see LambdaAnswer#answerWith(LambdaAnswer.Function4)
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, R> BDDMockito.BDDStubber willAnswerWith(LambdaAnswer.Function4<A1, A2, A3, A4, R> lambda) {
+        return willAnswer(LambdaAnswer.answerWith(lambda));
+    }
+
+    /**
+     * Stubs a method with a typed lambda answer in the "will-given" style: {@code willAnswerWith(lambda).given(mock).method(any())}.
+     *
+     * @see LambdaAnswer#answerWith(LambdaAnswer.Function5)
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, A5, R> BDDMockito.BDDStubber willAnswerWith(LambdaAnswer.Function5<A1, A2, A3, A4, A5, R> lambda) {
+        return willAnswer(LambdaAnswer.answerWith(lambda));
+    }
+
+    /**
+     * Stubs a method with a typed lambda answer in the "will-given" style: {@code willAnswerWith(lambda).given(mock).method(any())}.
+     *
+     * @see LambdaAnswer#answerWith(LambdaAnswer.Function6)
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, A5, A6, R> BDDMockito.BDDStubber willAnswerWith(LambdaAnswer.Function6<A1, A2, A3, A4, A5, A6, R> lambda) {
+        return willAnswer(LambdaAnswer.answerWith(lambda));
+    }
+
+    /**
+     * A variant of willAnswerWith() for lambdas declaring checked exceptions.
+     *
+     * @see LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction1)
+     * @since 2.6.0
+     */
+    default <A1, R> BDDMockito.BDDStubber willAnswerWithThrowing(LambdaAnswer.ThrowingFunction1<A1, R> throwingLambda) {
+        return willAnswer(LambdaAnswer.answerWithThrowing(throwingLambda));
+    }
+
+    /**
+     * A variant of willAnswerWith() for lambdas declaring checked exceptions.
+     *
+     * @see LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction2)
+     * @since 2.6.0
+     */
+    default <A1, A2, R> BDDMockito.BDDStubber willAnswerWithThrowing(LambdaAnswer.ThrowingFunction2<A1, A2, R> throwingLambda) {
+        return willAnswer(LambdaAnswer.answerWithThrowing(throwingLambda));
+    }
+
+    /**
+     * A variant of willAnswerWith() for lambdas declaring checked exceptions.
+     *
+     * @see LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction3)
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, R> BDDMockito.BDDStubber willAnswerWithThrowing(LambdaAnswer.ThrowingFunction3<A1, A2, A3, R> throwingLambda) {
+        return willAnswer(LambdaAnswer.answerWithThrowing(throwingLambda));
+    }
+
+    /**
+     * A variant of willAnswerWith() for lambdas declaring checked exceptions.
+     *
+     * @see LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction4)
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, R> BDDMockito.BDDStubber willAnswerWithThrowing(LambdaAnswer.ThrowingFunction4<A1, A2, A3, A4, R> throwingLambda) {
+        return willAnswer(LambdaAnswer.answerWithThrowing(throwingLambda));
+    }
+
+    /**
+     * A variant of willAnswerWith() for lambdas declaring checked exceptions.
+     *
+     * @see LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction5)
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, A5, R> BDDMockito.BDDStubber willAnswerWithThrowing(LambdaAnswer.ThrowingFunction5<A1, A2, A3, A4, A5, R> throwingLambda) {
+        return willAnswer(LambdaAnswer.answerWithThrowing(throwingLambda));
+    }
+
+    /**
+     * A variant of willAnswerWith() for lambdas declaring checked exceptions.
+     *
+     * @see LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction6)
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, A5, A6, R> BDDMockito.BDDStubber willAnswerWithThrowing(LambdaAnswer.ThrowingFunction6<A1, A2, A3, A4, A5, A6, R> throwingLambda) {
+        return willAnswer(LambdaAnswer.answerWithThrowing(throwingLambda));
+    }
+
+    /**
+     * Stubs a method to return a completed future: {@code willComplete(value).given(mock).method(any())}.
+     *
+     * @see FutureAnswers#completedWith(Object)
+     * @since 2.6.0
+     */
+    default BDDMockito.BDDStubber willComplete(Object value) {
+        return willAnswer(FutureAnswers.completedWith(value));
+    }
+
+    /**
+     * Stubs a method to return a future completed exceptionally.
+     *
+     * @see FutureAnswers#completedExceptionallyWith(Throwable)
+     * @since 2.6.0
+     */
+    default BDDMockito.BDDStubber willCompleteExceptionally(Throwable throwable) {
+        return willAnswer(FutureAnswers.completedExceptionallyWith(throwable));
+    }
+
+    /**
+     * Stubs a method to return a future completed with a value computed by a lambda taking an argument of the method.
+     *
+     * @see FutureAnswers#completedWithResultOf(Function)
+     * @since 2.6.0
+     */
+    default <A, T> BDDMockito.BDDStubber willCompleteWithResultOf(Function<A, T> lambda) {
+        return willAnswer(FutureAnswers.completedWithResultOf(lambda));
+    }
+
+    /**
+     * Stubs a method to return a future completed asynchronously with a given executor.
+     *
+     * @see FutureAnswers#completedOn(Executor, Supplier)
+     * @since 2.6.0
+     */
+    default <T> BDDMockito.BDDStubber willCompleteOn(Executor executor, Supplier<T> supplier) {
+        return willAnswer(FutureAnswers.completedOn(executor, supplier));
+    }
+
+    /**
+     * Stubs a method to return a future completed asynchronously with a given executor with a value computed by a lambda taking
+     * an argument of the method.
+     *
+     * @see FutureAnswers#completedOn(Executor, Function)
+     * @since 2.6.0
+     */
+    default <A, T> BDDMockito.BDDStubber willCompleteOn(Executor executor, Function<A, T> lambda) {
+        return willAnswer(FutureAnswers.completedOn(executor, lambda));
+    }
+
+    /**
+     * Stubs a method returning a future to complete it after a delay: {@code willAnswerAfter(latency, answer).given(mock).method(any())}.
+     *
+     * @see DelayedAnswers#answerAfter(Duration, Answer)
+     * @since 2.6.0
+     */
+    default <T> BDDMockito.BDDStubber willAnswerAfter(Duration latency, Answer<T> answer) {
+        return willAnswer(DelayedAnswers.answerAfter(latency, answer));
+    }
+
+    /**
+     * A variant of willAnswerAfter(Duration, Answer) with a latency taken from a given distribution.
+     *
+     * @see DelayedAnswers#answerAfter(LatencyDistribution, Answer)
+     * @since 2.6.0
+     */
+    default <T> BDDMockito.BDDStubber willAnswerAfter(LatencyDistribution latencyDistribution, Answer<T> answer) {
+        return willAnswer(DelayedAnswers.answerAfter(latencyDistribution, answer));
+    }
+
+    /**
+     * Stubs a method to answer after blocking a calling thread for a given latency.
+     *
+     * @see DelayedAnswers#answerAfterBlocking(Duration, Answer)
+     * @since 2.6.0
+     */
+    default <T> BDDMockito.BDDStubber willAnswerAfterBlocking(Duration latency, Answer<T> answer) {
+        return willAnswer(DelayedAnswers.answerAfterBlocking(latency, answer));
+    }
+
+    /**
+     * A variant of willAnswerAfterBlocking(Duration, Answer) with a latency taken from a given distribution.
+     *
+     * @see DelayedAnswers#answerAfterBlocking(LatencyDistribution, Answer)
+     * @since 2.6.0
+     */
+    default <T> BDDMockito.BDDStubber willAnswerAfterBlocking(LatencyDistribution latencyDistribution, Answer<T> answer) {
+        return willAnswer(DelayedAnswers.answerAfterBlocking(latencyDistribution, answer));
+    }
+
+    /**
+     * Stubs a method to return a fresh stream for every call: {@code willStream(() -> Stream.of(...)).given(mock).method()}.
+     *
+     * @see StreamAnswers#returnsFreshStream(Supplier)
+     * @since 2.6.0
+     */
+    default <T> BDDMockito.BDDStubber willStream(Supplier<Stream<T>> streamSupplier) {
+        return willAnswer(StreamAnswers.returnsFreshStream(streamSupplier));
+    }
+
+    /**
+     * Stubs a method to return consecutive elements of an iterator drawn on demand.
+     *
+     * @see StreamAnswers#returnsElementsOf(Iterator)
+     * @since 2.6.0
+     */
+    default <T> BDDMockito.BDDStubber willReturnFrom(Iterator<T> elements) {
+        return willAnswer(StreamAnswers.returnsElementsOf(elements));
+    }
+
+    /**
+     * Stubs a method to return consecutive elements of a stream consumed lazily.
+     *
+     * @see StreamAnswers#returnsElementsOf(Stream)
+     * @since 2.6.0
+     */
+    default <T> BDDMockito.BDDStubber willReturnFrom(Stream<T> elements) {
+        return willAnswer(StreamAnswers.returnsElementsOf(elements));
     }
 }
@@ -5,6 +5,21 @@
  */
 package info.solidsoft.mockito.java8.api;
 
+import info.solidsoft.mockito.java8.AssertionMatcher;
+import info.solidsoft.mockito.java8.BenchmarkMock;
+import info.solidsoft.mockito.java8.BooleanConsumer;
+import info.solidsoft.mockito.java8.BulkVerification;
+import info.solidsoft.mockito.java8.ByteConsumer;
+import info.solidsoft.mockito.java8.CharConsumer;
+import info.solidsoft.mockito.java8.FutureAnswers;
+import info.solidsoft.mockito.java8.InvocationAwaiter;
+import info.solidsoft.mockito.java8.InvocationMetrics;
+import info.solidsoft.mockito.java8.LambdaAnswer;
+import info.solidsoft.mockito.java8.LazyMocks;
+import info.solidsoft.mockito.java8.MockPool;
+import info.solidsoft.mockito.java8.ShortConsumer;
+import info.solidsoft.mockito.java8.SingleArgumentMethod;
+import info.solidsoft.mockito.java8.StreamAnswers;
 import org.mockito.InOrder;
 import org.mockito.Incubating;
 import org.mockito.MockSettings;
@@ -17,6 +32,19 @@ import org.mockito.verification.VerificationAfterDelay;
 import org.mockito.verification.VerificationMode;
 import org.mockito.verification.VerificationWithTimeout;
 
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 /**
  * An entry point to classic Mockito stubbing/mocking API with basic matchers.
  * <p>
@@ -90,7 +118,7 @@ public interface WithMockito extends WithMatchers {
      * Delegates call to {@link Mockito#mockingDetails(Object)}.
      */
     default MockingDetails mockingDetails(Object toInspect) {
-        return Mockito.mockingDetails(toInspect);
+        return Mockito.mockingDetails(LazyMocks.unwrap(toInspect));
     }
 
     /**
@@ -107,6 +135,33 @@ public interface WithMockito extends WithMatchers {
         return Mockito.mock(classToMock, mockSettings);
     }
 
+    /**
+     * Delegates call to {@link LazyMocks#lazyMock(Class)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> T lazyMock(Class<T> classToMock) {
+        return LazyMocks.lazyMock(classToMock);
+    }
+
+    /**
+     * Delegates call to {@link LazyMocks#lazyMock(Class, MockSettings)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> T lazyMock(Class<T> classToMock, MockSettings mockSettings) {
+        return LazyMocks.lazyMock(classToMock, mockSettings);
+    }
+
+    /**
+     * Delegates call to {@link MockPool#pooledMock(Class)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> T pooledMock(Class<T> classToMock) {
+        return MockPool.pooledMock(classToMock);
+    }
+
     /**
      * Delegates call to {@link Mockito#spy(Object)}.
      */
@@ -133,98 +188,106 @@ public interface WithMockito extends WithMatchers {
      * Delegates call to {@link Mockito#verify(Object)}.
      */
     default <T> T verify(T mock) {
-        return Mockito.verify(mock, times(1));
+        return Mockito.verify(LazyMocks.unwrap(mock), times(1));
     }
 
     /**
      * Delegates call to {@link Mockito#verify(Object, VerificationMode)}.
      */
     default <T> T verify(T mock, VerificationMode mode) {
-        return Mockito.verify(mock, mode);
+        return Mockito.verify(LazyMocks.unwrap(mock), mode);
     }
 
     /**
      * Delegates call to {@link Mockito#reset(Object[])}.
      */
     default <T> void reset(T ... mocks) {
-        Mockito.reset(mocks);
+        Mockito.reset(LazyMocks.materializedOnly(mocks));
     }
 
     /**
      * Delegates call to {@link Mockito#verifyNoMoreInteractions(Object...)}.
      */
     default void verifyNoMoreInteractions(Object... mocks) {
-        Mockito.verifyNoMoreInteractions(mocks);
+        Object[] materializedMocks = LazyMocks.materializedOnly(mocks);
+        if (materializedMocks.length > 0 || mocks.length == 0) {    //never materialized lazy mocks could not have any interaction
+            Mockito.verifyNoMoreInteractions(materializedMocks);
+        }
     }
 
     /**
      * Delegates call to {@link Mockito#verifyZeroInteractions(Object...)}.
      */
     default void verifyZeroInteractions(Object... mocks) {
-        Mockito.verifyNoMoreInteractions(mocks);
+        Object[] materializedMocks = LazyMocks.materializedOnly(mocks);
+        if (materializedMocks.length > 0 || mocks.length == 0) {
+            Mockito.verifyNoMoreInteractions(materializedMocks);
+        }
     }
 
     /**
      * Delegates call to {@link Mockito#doThrow(Throwable...)}.
      */
     default Stubber doThrow(Throwable... toBeThrown) {
-        return Mockito.doThrow(toBeThrown);
+        return LazyMocks.unwrapping(Mockito.doThrow(toBeThrown));
     }
 
     /**
      * Delegates call to {@link Mockito#doThrow(Class)}.
      */
     default Stubber doThrow(Class<? extends Throwable> toBeThrown) {
-        return Mockito.doThrow(toBeThrown);
+        return LazyMocks.unwrapping(Mockito.doThrow(toBeThrown));
     }
 
     /**
      * Delegates call to {@link Mockito#doCallRealMethod()}.
      */
     default Stubber doCallRealMethod() {
-        return Mockito.doCallRealMethod();
+        return LazyMocks.unwrapping(Mockito.doCallRealMethod());
     }
 
     /**
      * Delegates call to {@link Mockito#doAnswer(Answer)}.
      */
     default Stubber doAnswer(Answer answer) {
-        return Mockito.doAnswer(answer);
+        return LazyMocks.unwrapping(Mockito.doAnswer(answer));
     }
 
     /**
      * Delegates call to {@link Mockito#doNothing()}.
      */
     default Stubber doNothing() {
-        return Mockito.doNothing();
+        return LazyMocks.unwrapping(Mockito.doNothing());
     }
 
     /**
      * Delegates call to {@link Mockito#doReturn(Object)}.
      */
     default Stubber doReturn(Object toBeReturned) {
-        return Mockito.doReturn(toBeReturned);
+        return LazyMocks.unwrapping(Mockito.doReturn(toBeReturned));
     }
 
     /**
      * Delegates call to {@link Mockito#doReturn(Object, Object...)}.
      */
     default Stubber doReturn(Object toBeReturned, Object... toBeReturnedNext) {
-        return Mockito.doReturn(toBeReturned, toBeReturnedNext);
+        return LazyMocks.unwrapping(Mockito.doReturn(toBeReturned, toBeReturnedNext));
     }
 
     /**
      * Delegates call to {@link Mockito#inOrder(Object...)}.
      */
     default InOrder inOrder(Object... mocks) {
-        return Mockito.inOrder(mocks);
+        Object[] unwrappedMocks = LazyMocks.unwrapAll(mocks);
+        InOrder inOrder = Mockito.inOrder(unwrappedMocks);
+        return unwrappedMocks == mocks ? inOrder : LazyMocks.unwrapping(inOrder);     //the same array if there is no lazy mock
     }
 
     /**
      * Delegates call to {@link Mockito#ignoreStubs(Object...)}.
      */
     default Object[] ignoreStubs(Object... mocks) {
-        return Mockito.ignoreStubs(mocks);
+        return Mockito.ignoreStubs(LazyMocks.unwrapAll(mocks));
     }
 
     /**
@@ -312,4 +375,292 @@ public interface WithMockito extends WithMatchers {
     default VerificationMode description(String description) {
         return Mockito.description(description);
     }
+
+    /**
+     * Delegates call to {@link AssertionMatcher#assertIntArg(IntConsumer)}.
+     *
+     * @since 2.6.0
+     */
+    default int assertIntArg(IntConsumer consumer) {
+        return AssertionMatcher.assertIntArg(consumer);
+    }
+
+    /**
+     * Delegates call to {@link AssertionMatcher#assertLongArg(LongConsumer)}.
+     *
+     * @since 2.6.0
+     */
+    default long assertLongArg(LongConsumer consumer) {
+        return AssertionMatcher.assertLongArg(consumer);
+    }
+
+    /**
+     * Delegates call to {@link AssertionMatcher#assertDoubleArg(DoubleConsumer)}.
+     *
+     * @since 2.6.0
+     */
+    default double assertDoubleArg(DoubleConsumer consumer) {
+        return AssertionMatcher.assertDoubleArg(consumer);
+    }
+
+    /**
+     * Delegates call to {@link AssertionMatcher#assertBooleanArg(BooleanConsumer)}.
+     *
+     * @since 2.6.0
+     */
+    default boolean assertBooleanArg(BooleanConsumer consumer) {
+        return AssertionMatcher.assertBooleanArg(consumer);
+    }
+
+    /**
+     * Delegates call to {@link AssertionMatcher#assertCharArg(CharConsumer)}.
+     *
+     * @since 2.6.0
+     */
+    default char assertCharArg(CharConsumer consumer) {
+        return AssertionMatcher.assertCharArg(consumer);
+    }
+
+    /**
+     * Delegates call to {@link AssertionMatcher#assertShortArg(ShortConsumer)}.
+     *
+     * @since 2.6.0
+     */
+    default short assertShortArg(ShortConsumer consumer) {
+        return AssertionMatcher.assertShortArg(consumer);
+    }
+
+    /**
+     * Delegates call to {@link AssertionMatcher#assertByteArg(ByteConsumer)}.
+     *
+     * @since 2.6.0
+     */
+    default byte assertByteArg(ByteConsumer consumer) {
+        return AssertionMatcher.assertByteArg(consumer);
+    }
+
+    /**
+     * Delegates call to {@link BulkVerification#verifyAll(Object, SingleArgumentMethod, Predicate)} with a default configuration.
+     *
+     * @since 2.6.0
+     */
+    default <M, A> void verifyAll(M mock, SingleArgumentMethod<M, A> method, Predicate<? super A> predicate) {
+        BulkVerification.bulkVerification().verifyAll(mock, method, predicate);
+    }
+
+    /**
+     * Delegates call to {@link BulkVerification#verifyCount(Object, SingleArgumentMethod, Predicate, long)} with a default configuration.
+     *
+     * @since 2.6.0
+     */
+    default <M, A> void verifyCount(M mock, SingleArgumentMethod<M, A> method, Predicate<? super A> predicate, long wantedNumberOfInvocations) {
+        BulkVerification.bulkVerification().verifyCount(mock, method, predicate, wantedNumberOfInvocations);
+    }
+
+    /**
+     * Delegates call to {@link InvocationMetrics#withMetrics(InvocationMetrics)}.
+     *
+     * @since 2.6.0
+     */
+    default MockSettings withMetrics(InvocationMetrics metrics) {
+        return InvocationMetrics.withMetrics(metrics);
+    }
+
+    /**
+     * Delegates call to {@link InvocationAwaiter#withAwaiter(InvocationAwaiter)}.
+     *
+     * @since 2.6.0
+     */
+    default MockSettings withAwaiter(InvocationAwaiter awaiter) {
+        return InvocationAwaiter.withAwaiter(awaiter);
+    }
+
+    /**
+     * Delegates call to {@link BenchmarkMock#benchmarkMock(Class, Consumer)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> T benchmarkMock(Class<T> classToMock, Consumer<T> stubbing) {
+        return BenchmarkMock.benchmarkMock(classToMock, stubbing);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWith(Function)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, R> Answer<R> answerWith(Function<A1, R> lambda) {
+        return LambdaAnswer.answerWith(lambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWith(BiFunction)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, R> Answer<R> answerWith(BiFunction<A1, A2, R> lambda) {
+        return LambdaAnswer.answerWith(lambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWith(LambdaAnswer.Function3)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, R> Answer<R> answerWith(LambdaAnswer.Function3<A1, A2, A3, R> lambda) {
+        return LambdaAnswer.answerWith(lambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWith(LambdaAnswer.Function4)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, R> Answer<R> answerWith(LambdaAnswer.Function4<A1, A2, A3, A4, R> lambda) {
+        return LambdaAnswer.answerWith(lambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWith(LambdaAnswer.Function5)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, A5, R> Answer<R> answerWith(LambdaAnswer.Function5<A1, A2, A3, A4, A5, R> lambda) {
+        return LambdaAnswer.answerWith(lambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWith(LambdaAnswer.Function6)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, A5, A6, R> Answer<R> answerWith(LambdaAnswer.Function6<A1, A2, A3, A4, A5, A6, R> lambda) {
+        return LambdaAnswer.answerWith(lambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction1)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, R> Answer<R> answerWithThrowing(LambdaAnswer.ThrowingFunction1<A1, R> throwingLambda) {
+        return LambdaAnswer.answerWithThrowing(throwingLambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction2)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, R> Answer<R> answerWithThrowing(LambdaAnswer.ThrowingFunction2<A1, A2, R> throwingLambda) {
+        return LambdaAnswer.answerWithThrowing(throwingLambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction3)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, R> Answer<R> answerWithThrowing(LambdaAnswer.ThrowingFunction3<A1, A2, A3, R> throwingLambda) {
+        return LambdaAnswer.answerWithThrowing(throwingLambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction4)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, R> Answer<R> answerWithThrowing(LambdaAnswer.ThrowingFunction4<A1, A2, A3, A4, R> throwingLambda) {
+        return LambdaAnswer.answerWithThrowing(throwingLambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction5)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, A5, R> Answer<R> answerWithThrowing(LambdaAnswer.ThrowingFunction5<A1, A2, A3, A4, A5, R> throwingLambda) {
+        return LambdaAnswer.answerWithThrowing(throwingLambda);
+    }
+
+    /**
+     * Delegates call to {@link LambdaAnswer#answerWithThrowing(LambdaAnswer.ThrowingFunction6)}.
+     *
+     * @since 2.6.0
+     */
+    default <A1, A2, A3, A4, A5, A6, R> Answer<R> answerWithThrowing(LambdaAnswer.ThrowingFunction6<A1, A2, A3, A4, A5, A6, R> throwingLambda) {
+        return LambdaAnswer.answerWithThrowing(throwingLambda);
+    }
+
+    /**
+     * Delegates call to {@link FutureAnswers#completedWith(Object)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> Answer<CompletableFuture<T>> completedWith(T value) {
+        return FutureAnswers.completedWith(value);
+    }
+
+    /**
+     * Delegates call to {@link FutureAnswers#completedExceptionallyWith(Throwable)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> Answer<CompletableFuture<T>> completedExceptionallyWith(Throwable throwable) {
+        return FutureAnswers.completedExceptionallyWith(throwable);
+    }
+
+    /**
+     * Delegates call to {@link FutureAnswers#completedWithResultOf(Function)}.
+     *
+     * @since 2.6.0
+     */
+    default <A, T> Answer<CompletableFuture<T>> completedWithResultOf(Function<A, T> lambda) {
+        return FutureAnswers.completedWithResultOf(lambda);
+    }
+
+    /**
+     * Delegates call to {@link FutureAnswers#completedOn(Executor, Supplier)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> Answer<CompletableFuture<T>> completedOn(Executor executor, Supplier<T> supplier) {
+        return FutureAnswers.completedOn(executor, supplier);
+    }
+
+    /**
+     * Delegates call to {@link FutureAnswers#completedOn(Executor, Function)}.
+     *
+     * @since 2.6.0
+     */
+    default <A, T> Answer<CompletableFuture<T>> completedOn(Executor executor, Function<A, T> lambda) {
+        return FutureAnswers.completedOn(executor, lambda);
+    }
+
+    /**
+     * Delegates call to {@link StreamAnswers#returnsFreshStream(Supplier)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> Answer<Object> returnsFreshStream(Supplier<Stream<T>> streamSupplier) {
+        return StreamAnswers.returnsFreshStream(streamSupplier);
+    }
+
+    /**
+     * Delegates call to {@link StreamAnswers#returnsElementsOf(Iterator)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> Answer<T> returnsElementsOf(Iterator<T> elements) {
+        return StreamAnswers.returnsElementsOf(elements);
+    }
+
+    /**
+     * Delegates call to {@link StreamAnswers#returnsElementsOf(Stream)}.
+     *
+     * @since 2.6.0
+     */
+    default <T> Answer<T> returnsElementsOf(Stream<T> elements) {
+        return StreamAnswers.returnsElementsOf(elements);
+    }
 }
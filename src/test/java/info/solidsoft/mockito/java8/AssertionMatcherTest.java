@@ -12,12 +12,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 
 import static info.solidsoft.mockito.java8.AssertionMatcher.assertArg;
 import static info.solidsoft.mockito.java8.AssertionMatcher.assertArgThrowing;
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertDoubleArg;
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertIntArg;
+import static info.solidsoft.mockito.java8.AssertionMatcher.assertLongArg;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
@@ -48,6 +52,22 @@ class AssertionMatcherTest {
         verify(ts).findNumberOfShipsInRangeByCriteria(assertArg(sc -> assertThat(sc.getMinimumRange()).isLessThan(2000)));
     }
 
+    @Test
+    void shouldResolveArgumentTypeOfLambdaOnlyOnce() {
+        //given
+        long hitsBefore = AssertionMatcher.getArgumentTypeCacheHitCount();
+        long missesBefore = AssertionMatcher.getArgumentTypeCacheMissCount();
+        //when
+        for (int i = 0; i < 3; i++) {
+            ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+            verify(ts).findNumberOfShipsInRangeByCriteria(assertArg(sc -> assertThat(sc.getNumberOfPhasers()).isEqualTo(4)));
+            Mockito.clearInvocations(ts);
+        }
+        //then
+        assertThat(AssertionMatcher.getArgumentTypeCacheMissCount() - missesBefore).isEqualTo(1);
+        assertThat(AssertionMatcher.getArgumentTypeCacheHitCount() - hitsBefore).isEqualTo(2);
+    }
+
     @Test
     void shouldAllowToUseAssertionInLambdaWithPrimitiveAsArgument() {
         //when
@@ -79,6 +99,36 @@ class AssertionMatcherTest {
                         ");");
     }
 
+    @Test
+    void shouldAllowToUsePrimitiveSpecializedAssertionInLambda() {
+        //when
+        ts.fireTorpedo(2);
+        ts.scheduleSelfCheck(1000L);
+        ts.raiseShields(0.5);
+        //then
+        verify(ts).fireTorpedo(assertIntArg(i -> assertThat(i).isEqualTo(2)));
+        verify(ts).scheduleSelfCheck(assertLongArg(l -> assertThat(l).isEqualTo(1000L)));
+        verify(ts).raiseShields(assertDoubleArg(d -> assertThat(d).isEqualTo(0.5)));
+    }
+
+    @Test
+    void shouldHaveMeaningfulErrorMessageForPrimitiveSpecializedAssertion() {
+        //when
+        ts.fireTorpedo(2);
+        //then
+        assertThatThrownBy(() -> verify(ts).fireTorpedo(assertIntArg(i -> assertThat(i).isEqualTo(3))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Argument(s) are different! Wanted:\n" +
+                        "ts.fireTorpedo(\n" +
+                        "    AssertionMatcher reported: \n" +
+                        "Expecting:\n" +
+                        " <2>\n" +
+                        "to be equal to:\n" +
+                        " <3>\n" +
+                        "but was not.\n" +
+                        ");");
+    }
+
     @SuppressWarnings("Convert2MethodRef")
     @Test
     void shouldAcceptLambdaWhichMayThrowCheckedException() {
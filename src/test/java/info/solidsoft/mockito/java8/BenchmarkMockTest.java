@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipRegistry;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.exceptions.base.MockitoException;
+
+import static info.solidsoft.mockito.java8.BenchmarkMock.benchmarkMock;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+
+class BenchmarkMockTest {
+
+    @Test
+    void shouldReturnPrecomputedAnswersForInterface() {
+        //given
+        ShipRegistry registry = benchmarkMock(ShipRegistry.class, template -> {
+            given(template.getNumberOfRegisteredShips()).willReturn(1701);
+            given(template.findShipName(1701)).willReturn("Enterprise");
+            given(template.isShipRegistered("Constitution", 1701)).willReturn(true);
+        });
+        //expect
+        assertThat(registry.getNumberOfRegisteredShips()).isEqualTo(1701);
+        assertThat(registry.findShipName(1701)).isEqualTo("Enterprise");
+        assertThat(registry.findShipName(1864)).isNull();
+        assertThat(registry.isShipRegistered("Constitution", 1701)).isTrue();
+        assertThat(registry.isShipRegistered("Galaxy", 1701)).isFalse();
+        assertThat(Mockito.mockingDetails(registry).isMock()).isFalse();    //not handled by Mockito at all
+    }
+
+    @Test
+    void shouldReturnPrecomputedAnswersForClass() {
+        //given
+        TacticalStation ts = benchmarkMock(TacticalStation.class, template -> {
+            given(template.getNumberOfTubes()).willReturn(4);
+            given(template.getTubeStatus(1)).willReturn(TacticalStation.TubeStatus.LOADED);
+        });
+        //expect
+        assertThat(ts.getNumberOfTubes()).isEqualTo(4);
+        assertThat(ts.getTubeStatus(1)).isEqualTo(TacticalStation.TubeStatus.LOADED);
+        assertThat(ts.getTubeStatus(2)).isNull();
+        assertThat(Mockito.mockingDetails(ts).getInvocations()).isEmpty();
+    }
+
+    @Test
+    void shouldUseLaterStubbingForSameArguments() {
+        //given
+        ShipRegistry registry = benchmarkMock(ShipRegistry.class, template -> {
+            given(template.findShipName(1701)).willReturn("Enterprise");
+            given(template.findShipName(1701)).willReturn("Enterprise-A");
+        });
+        //expect
+        assertThat(registry.findShipName(1701)).isEqualTo("Enterprise-A");
+    }
+
+    @Test
+    void shouldThrowPrecomputedException() {
+        //given
+        ShipRegistry registry = benchmarkMock(ShipRegistry.class,
+                template -> given(template.findShipName(0)).willThrow(new IllegalArgumentException("Invalid number")));
+        //expect
+        assertThatThrownBy(() -> registry.findShipName(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid number");
+    }
+
+    @Test
+    void shouldRejectStubbingWithMatchers() {
+        assertThatThrownBy(() -> benchmarkMock(ShipRegistry.class, template -> given(template.findShipName(anyInt())).willReturn("Enterprise")))
+                .isInstanceOf(MockitoException.class)
+                .hasMessageContaining("Only stubbing with fixed arguments is supported in a benchmark mock");
+    }
+
+    @Test
+    void shouldDescribeMockedType() {
+        //when
+        ShipRegistry registry = benchmarkMock(ShipRegistry.class, template -> {});
+        TacticalStation ts = benchmarkMock(TacticalStation.class, template -> {});
+        //then
+        assertThat(registry).hasToString("Benchmark mock for " + ShipRegistry.class.getName());
+        assertThat(ts).hasToString("Benchmark mock for " + TacticalStation.class.getName());
+    }
+}
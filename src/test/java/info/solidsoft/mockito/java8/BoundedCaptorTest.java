@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+class BoundedCaptorTest {
+
+    private final TacticalStation ts = mock(TacticalStation.class, withSettings().stubOnly());
+
+    @Test
+    void shouldKeepOnlyLastArgumentsMatchingPredicate() {
+        //given
+        BoundedCaptor<ShipSearchCriteria> captor = BoundedCaptor.lastN(3, c -> c.getNumberOfPhasers() > 2);
+        given(ts.findNumberOfShipsInRangeByCriteria(any(ShipSearchCriteria.class))).will(captor.capturing(invocation -> 4));
+        //when
+        for (int i = 0; i < 10; i++) {
+            assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(i, i % 2 == 0 ? 4 : 1))).isEqualTo(4);
+        }
+        //then
+        assertThat(captor.getValues()).extracting(ShipSearchCriteria::getMinimumRange).containsExactly(4, 6, 8);
+        assertThat(captor.getMatchedCount()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldCapturePrimitiveArgumentKeepingDefaultAnswer() {
+        //given
+        BoundedCaptor<Integer> captor = BoundedCaptor.lastN(2, tubeNumber -> true);
+        captor.captureFrom(ts, TacticalStation::getTubeStatus);
+        //when
+        TacticalStation.TubeStatus tubeStatus = ts.getTubeStatus(1);
+        //then
+        assertThat(tubeStatus).isNull();
+        assertThat(captor.getValues()).containsExactly(1);
+    }
+
+    @Test
+    void shouldNotCaptureWhenStubbingSameMethodAgain() {
+        //given
+        BoundedCaptor<ShipSearchCriteria> captor = BoundedCaptor.lastN(3, c -> c.getNumberOfPhasers() > 2);
+        given(ts.findNumberOfShipsInRangeByCriteria(any(ShipSearchCriteria.class))).will(captor.capturing(invocation -> 4));
+        //when
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willReturn(5);
+        //then
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 4))).isEqualTo(5);
+        assertThat(captor.getMatchedCount()).isZero();
+    }
+
+    @Test
+    void shouldKeepSampleOfArgumentsFromConcurrentCalls() throws InterruptedException {
+        //given
+        BoundedCaptor<ShipSearchCriteria> captor = BoundedCaptor.reservoirSample(10, c -> true);
+        captor.captureFrom(ts, TacticalStation::findNumberOfShipsInRangeByCriteria);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        //when
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(i, 2));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        //then
+        assertThat(captor.getMatchedCount()).isEqualTo(40_000);
+        assertThat(captor.getValues()).hasSize(10).doesNotContainNull();
+    }
+}
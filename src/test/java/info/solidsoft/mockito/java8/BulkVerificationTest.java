@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.exceptions.base.MockitoAssertionError;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static info.solidsoft.mockito.java8.BulkVerification.bulkVerification;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class BulkVerificationTest {
+
+    private static final int NUMBER_OF_INVOCATIONS = 20_000;
+
+    @Mock
+    private TacticalStation ts;
+
+    private final BulkVerification parallelVerification = bulkVerification().withParallelismThreshold(1).inPool(new ForkJoinPool(4));
+
+    @Test
+    void shouldVerifyAllInvocationsInParallel() {
+        //given
+        callWithRanges(NUMBER_OF_INVOCATIONS);
+        //expect
+        parallelVerification.verifyAll(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getMinimumRange() < NUMBER_OF_INVOCATIONS);
+        verifyNoMoreInteractions(ts);
+    }
+
+    @Test
+    void shouldReportInvocationNotMatchingPredicate() {
+        //given
+        callWithRanges(NUMBER_OF_INVOCATIONS);
+        //expect
+        assertThatThrownBy(() -> parallelVerification.verifyAll(ts, TacticalStation::findNumberOfShipsInRangeByCriteria,
+                c -> c.getMinimumRange() != 1234))
+                .isInstanceOf(MockitoAssertionError.class)
+                .hasMessageContaining("Argument of invocation does not match predicate:\n" +
+                        "ts.findNumberOfShipsInRangeByCriteria(\n" +
+                        "    ShipSearchCriteria{minimumRange=1234, numberOfPhasers=2}\n" +
+                        ");");
+    }
+
+    @Test
+    void shouldFailIfVerifiedMethodWasNotCalled() {
+        //given
+        ts.fireTorpedo(2);
+        //expect
+        assertThatThrownBy(() -> bulkVerification().verifyAll(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> true))
+                .isInstanceOf(MockitoAssertionError.class)
+                .hasMessage("Wanted but not invoked: findNumberOfShipsInRangeByCriteria()");
+    }
+
+    @Test
+    void shouldVerifyNumberOfInvocationsMatchingPredicate() {
+        //given
+        callWithRanges(NUMBER_OF_INVOCATIONS);
+        //expect
+        parallelVerification.verifyCount(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getMinimumRange() < 100, 100);
+        bulkVerification().verifyCount(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getMinimumRange() < 100, 100);
+    }
+
+    @Test
+    void shouldReportWrongNumberOfInvocationsMatchingPredicate() {
+        //given
+        callWithRanges(NUMBER_OF_INVOCATIONS);
+        //expect
+        assertThatThrownBy(() -> parallelVerification.verifyCount(ts, TacticalStation::findNumberOfShipsInRangeByCriteria,
+                c -> c.getMinimumRange() < 100, 99))
+                .isInstanceOf(MockitoAssertionError.class)
+                .hasMessage("findNumberOfShipsInRangeByCriteria() with argument matching predicate:\nWanted 99 time(s), but was more than 99");
+        assertThatThrownBy(() -> parallelVerification.verifyCount(ts, TacticalStation::findNumberOfShipsInRangeByCriteria,
+                c -> c.getMinimumRange() < 100, 101))
+                .isInstanceOf(MockitoAssertionError.class)
+                .hasMessageEndingWith("Wanted 101 time(s), but was 100");
+    }
+
+    @Test
+    void shouldDistinguishOverloadedMethods() {
+        //given
+        ts.fireTorpedo(2);
+        ts.fireTorpedo(3);
+        //expect
+        bulkVerification().verifyCount(ts, TacticalStation::fireTorpedo, (Integer tubeNumber) -> tubeNumber > 1, 2);
+    }
+
+    @Test
+    void shouldRejectLambdaExpressionInsteadOfMethodReference() {
+        //given
+        ts.fireTorpedo(2);
+        //expect
+        assertThatThrownBy(() -> bulkVerification().verifyAll(ts, (TacticalStation mock, Integer tubeNumber) -> mock.fireTorpedo(tubeNumber),
+                tubeNumber -> true))
+                .isInstanceOf(MockitoException.class)
+                .hasMessageContaining("A method reference (e.g. TacticalStation::fireTorpedo) is expected");
+    }
+
+    private void callWithRanges(int numberOfInvocations) {
+        for (int i = 0; i < numberOfInvocations; i++) {
+            ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(i, 2));
+        }
+    }
+}
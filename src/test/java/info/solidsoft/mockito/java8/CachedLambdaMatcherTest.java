@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static info.solidsoft.mockito.java8.CachedLambdaMatcher.argLambdaCached;
+import static info.solidsoft.mockito.java8.CachedLambdaMatcher.cachedLambda;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CachedLambdaMatcherTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    private final ShipSearchCriteria searchCriteria = new ShipSearchCriteria(1500, 2);
+
+    @Test
+    void shouldEvaluatePredicateOnlyOnceForTheSameArgument() {
+        //given
+        AtomicInteger evaluationCounter = new AtomicInteger();
+        CachedLambdaMatcher<ShipSearchCriteria> matcher = cachedLambda(c -> {
+            evaluationCounter.incrementAndGet();
+            return c.getMinimumRange() > 1000;
+        }, "minimum range above 1000");
+        given(ts.findNumberOfShipsInRangeByCriteria(argThat(matcher))).willReturn(4);
+        //when
+        int firstNumberOfShips = ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        int secondNumberOfShips = ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        //then
+        assertThat(firstNumberOfShips).isEqualTo(4);
+        assertThat(secondNumberOfShips).isEqualTo(4);
+        assertThat(evaluationCounter).hasValue(1);
+        assertThat(matcher.getSavedEvaluationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvaluatePredicateAgainForDifferentArgumentInstanceAndAfterCacheClearing() {
+        //given
+        AtomicInteger evaluationCounter = new AtomicInteger();
+        CachedLambdaMatcher<ShipSearchCriteria> matcher = cachedLambda(c -> evaluationCounter.incrementAndGet() > 0, "any criteria");
+        //when
+        matcher.matches(searchCriteria);
+        matcher.matches(new ShipSearchCriteria(1500, 2));
+        matcher.clearCache();
+        matcher.matches(searchCriteria);
+        //then
+        assertThat(evaluationCounter).hasValue(3);
+        assertThat(matcher.getSavedEvaluationCount()).isZero();
+    }
+
+    @Test
+    void shouldDiscardMatcherWithItsCacheWhenMockIsReset() throws InterruptedException {
+        //given
+        CachedLambdaMatcher<ShipSearchCriteria> matcher = cachedLambda(c -> c.getMinimumRange() > 1000, "minimum range above 1000");
+        given(ts.findNumberOfShipsInRangeByCriteria(argThat(matcher))).willReturn(4);
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        WeakReference<CachedLambdaMatcher<ShipSearchCriteria>> matcherReference = new WeakReference<>(matcher);
+        matcher = null;
+        //when
+        reset(ts);
+        //then
+        for (int i = 0; i < 50 && matcherReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(matcherReference.get()).isNull();
+    }
+
+    @Test
+    void shouldAllowToUseCachedLambdaInVerification() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2));
+        //then
+        verify(ts, times(1)).findNumberOfShipsInRangeByCriteria(argLambdaCached(c -> c.getMinimumRange() > 1000));
+    }
+}
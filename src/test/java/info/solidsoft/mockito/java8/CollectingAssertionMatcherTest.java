@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static info.solidsoft.mockito.java8.CollectingAssertionMatcher.assertEveryArg;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CollectingAssertionMatcherTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    @Test
+    void shouldVerifyEveryInvocation() {
+        //when
+        callWithRanges(100);
+        //then
+        verify(ts, times(100)).findNumberOfShipsInRangeByCriteria(assertEveryArg(sc -> assertThat(sc.getMinimumRange()).isLessThan(100)));
+    }
+
+    @Test
+    void shouldReportAllFailuresAndRunAssertionOnlyOncePerInvocation() {
+        //given
+        AtomicInteger assertionCounter = new AtomicInteger();
+        //when
+        callWithRanges(100);
+        //then
+        assertThatThrownBy(() -> verify(ts, times(100)).findNumberOfShipsInRangeByCriteria(assertEveryArg(sc -> {
+            assertionCounter.incrementAndGet();
+            if (sc.getMinimumRange() % 40 == 1) {
+                throw new AssertionError("Unexpected range " + sc.getMinimumRange());
+            }
+        })))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("AssertionMatcher reported 3 failure(s):\n" +
+                        " - for argument ShipSearchCriteria{minimumRange=1, numberOfPhasers=2}: Unexpected range 1\n" +
+                        " - for argument ShipSearchCriteria{minimumRange=41, numberOfPhasers=2}: Unexpected range 41\n" +
+                        " - for argument ShipSearchCriteria{minimumRange=81, numberOfPhasers=2}: Unexpected range 81\n");
+        assertThat(assertionCounter).hasValue(100);
+    }
+
+    @Test
+    void shouldKeepOnlyLimitedNumberOfFailureMessages() {
+        //when
+        callWithRanges(100);
+        //then
+        assertThatThrownBy(() -> verify(ts, times(100)).findNumberOfShipsInRangeByCriteria(assertEveryArg(
+                sc -> assertThat(sc.getMinimumRange()).isLessThan(50), 2)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("AssertionMatcher reported 50 failure(s) (first 2 shown):\n" +
+                        " - for argument ShipSearchCriteria{minimumRange=50, numberOfPhasers=2}: \n")
+                .hasMessageContaining(" - for argument ShipSearchCriteria{minimumRange=51, numberOfPhasers=2}: \n")
+                .hasMessageNotContaining("minimumRange=52");
+    }
+
+    @Test
+    void shouldAssertAndCountNullArgumentOnlyOnce() {
+        //given
+        AtomicInteger assertionCounter = new AtomicInteger();
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(null);
+        //then
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(assertEveryArg(sc -> {
+            assertionCounter.incrementAndGet();
+            assertThat(sc).isNotNull();
+        })))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("AssertionMatcher reported 1 failure(s):\n - for argument null: ");
+        assertThat(assertionCounter).hasValue(1);
+    }
+
+    private void callWithRanges(int numberOfInvocations) {
+        for (int i = 0; i < numberOfInvocations; i++) {
+            ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(i, 2));
+        }
+    }
+}
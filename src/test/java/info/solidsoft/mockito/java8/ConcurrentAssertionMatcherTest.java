@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static info.solidsoft.mockito.java8.ConcurrentAssertionMatcher.assertArgConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrentAssertionMatcherTest {
+
+    private static final int NUMBER_OF_THREADS = 8;
+    private static final int INVOCATIONS_PER_THREAD = 2000;
+
+    private static final Pattern FAILURE_LINE =
+            Pattern.compile(" - for argument ShipSearchCriteria\\{minimumRange=(\\d+), numberOfPhasers=\\d+}: Range (\\d+) is too far");
+
+    @Mock
+    private TacticalStation ts;
+
+    @Test
+    void shouldVerifyWithTimeoutWhileMockIsCalledFromOtherThreads() throws InterruptedException {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+        //when
+        for (int i = 0; i < NUMBER_OF_THREADS; i++) {
+            int range = i;
+            executor.execute(() -> ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(range, 2)));
+        }
+        //then
+        verify(ts, timeout(1000).times(NUMBER_OF_THREADS)).findNumberOfShipsInRangeByCriteria(assertArgConcurrently(sc -> {
+            if (sc.getMinimumRange() >= NUMBER_OF_THREADS) {
+                throw new AssertionError("Range " + sc.getMinimumRange() + " is too far");
+            }
+        }));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldReportFailureMessageForEachFailedArgument() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(3000, 2));
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 2));
+        //then
+        assertThatThrownBy(() -> verify(ts, timeout(100).times(2)).findNumberOfShipsInRangeByCriteria(assertArgConcurrently(
+                sc -> assertRangeLessThan(sc, 2000))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("AssertionMatcher reported 1 failure(s):\n" +
+                        " - for argument ShipSearchCriteria{minimumRange=3000, numberOfPhasers=2}: Range 3000 is too far");
+    }
+
+    @Test
+    void shouldAlwaysReportFailureMessageMatchingFailedArgumentUnderConcurrentEvaluation() throws Exception {
+        //given
+        ConcurrentAssertionMatcher<ShipSearchCriteria> matcher = new ConcurrentAssertionMatcher<>(sc -> assertRangeLessThan(sc, 0));
+        ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS + 1);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> evaluations = new ArrayList<>();
+        //when
+        for (int thread = 0; thread < NUMBER_OF_THREADS; thread++) {
+            int threadNumber = thread;
+            evaluations.add(executor.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < INVOCATIONS_PER_THREAD; i++) {
+                    matcher.matches(new ShipSearchCriteria(threadNumber * INVOCATIONS_PER_THREAD + i, 2));
+                }
+                return null;
+            }));
+        }
+        Future<Integer> reporter = executor.submit(() -> {
+            startLatch.await();
+            int numberOfCheckedLines = 0;
+            while (!evaluations.stream().allMatch(Future::isDone)) {
+                numberOfCheckedLines += assertEveryFailureLineConsistent(matcher.toString());
+            }
+            return numberOfCheckedLines;
+        });
+        startLatch.countDown();
+        //then
+        for (Future<?> evaluation : evaluations) {
+            evaluation.get(10, TimeUnit.SECONDS);
+        }
+        reporter.get(10, TimeUnit.SECONDS);
+        assertThat(assertEveryFailureLineConsistent(matcher.toString())).isEqualTo(NUMBER_OF_THREADS * INVOCATIONS_PER_THREAD);
+        executor.shutdown();
+    }
+
+    private static void assertRangeLessThan(ShipSearchCriteria sc, int maximumRange) {
+        if (sc.getMinimumRange() >= maximumRange) {
+            throw new AssertionError("Range " + sc.getMinimumRange() + " is too far");
+        }
+    }
+
+    private static int assertEveryFailureLineConsistent(String description) {
+        String[] lines = description.split("\n");
+        for (int i = 1; i < lines.length; i++) {
+            Matcher failureLine = FAILURE_LINE.matcher(lines[i]);
+            assertThat(failureLine.matches()).as("Unexpected line: %s", lines[i]).isTrue();
+            assertThat(failureLine.group(2)).isEqualTo(failureLine.group(1));
+        }
+        return lines.length - 1;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.api.WithBDDMockito;
+import info.solidsoft.mockito.java8.domain.ShipRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.base.MockitoException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.DelayedAnswers.answerAfter;
+import static info.solidsoft.mockito.java8.LambdaAnswer.answerWith;
+import static java.time.Duration.ofMillis;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DelayedAnswersTest implements WithBDDMockito {
+
+    private final ShipRegistry registry = mock(ShipRegistry.class);
+
+    @Test
+    void shouldCompleteFutureAfterDelayWithoutBlockingCaller() throws Exception {
+        //given
+        given(registry.findShipNameAsync(anyInt())).willAnswer(answerAfter(ofMillis(100), invocation -> "NCC-" + invocation.getArgument(0)));
+        long startTime = System.nanoTime();
+        //when
+        CompletableFuture<String> future = registry.findShipNameAsync(1701);
+        //then
+        assertThat(future).isNotDone();
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("NCC-1701");
+        assertThat(System.nanoTime() - startTime).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void shouldCompleteFutureExceptionallyAfterDelayWhenAnswerThrows() {
+        //given
+        willAnswerAfter(ofMillis(10), invocation -> {
+            throw new IllegalStateException("Registry offline");
+        }).given(registry).getNumberOfRegisteredShipsAsync();
+        //expect
+        assertThatThrownBy(() -> registry.getNumberOfRegisteredShipsAsync().toCompletableFuture().get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldBlockCallerForLatencyFromDistribution() {
+        //given
+        willAnswerAfterBlocking(LatencyDistribution.uniform(ofMillis(30), ofMillis(40)), invocation -> "Enterprise").given(registry).findShipName(1701);
+        long startTime = System.nanoTime();
+        //when
+        String name = registry.findShipName(1701);
+        //then
+        assertThat(name).isEqualTo("Enterprise");
+        assertThat(System.nanoTime() - startTime).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    void shouldSampleLatenciesFromDistributions() {
+        LatencyDistribution logNormal = LatencyDistribution.logNormal(ofMillis(20), 0.5);
+        LatencyDistribution percentiles = LatencyDistribution.percentiles()
+                .with(0.0, ofMillis(5))
+                .with(50.0, ofMillis(10))
+                .with(100.0, ofMillis(100));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(logNormal.nextLatencyNanos()).isPositive();
+            assertThat(percentiles.nextLatencyNanos()).isBetween(ofMillis(5).toNanos(), ofMillis(100).toNanos());
+        }
+        assertThat(LatencyDistribution.fixed(Duration.ofSeconds(1)).nextLatencyNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void shouldRejectPercentilesInDescendingOrder() {
+        assertThatThrownBy(() -> LatencyDistribution.percentiles().with(99.0, ofMillis(80)).with(50.0, ofMillis(10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ascending order");
+    }
+
+    @Test
+    void shouldValidateDelayedAnswerForStubbedMethod() {
+        assertThatThrownBy(() -> given(registry.findShipNameAsync(anyInt())).willAnswer(answerAfter(ofMillis(10), answerWith((String name) -> name))))
+                .isInstanceOf(MockitoException.class)
+                .hasMessageContaining("parameter 1 of type String is not compatible with parameter of type int");
+    }
+
+    @Test
+    void shouldInterpolateLatenciesBelowFirstPercentileFromZero() {
+        //given
+        LatencyDistribution medianOnly = LatencyDistribution.percentiles().with(50.0, ofMillis(12)).with(100.0, ofMillis(40));
+        long minLatencyNanos = Long.MAX_VALUE;
+        //when
+        for (int i = 0; i < 1000; i++) {
+            minLatencyNanos = Math.min(minLatencyNanos, medianOnly.nextLatencyNanos());
+        }
+        //then
+        assertThat(minLatencyNanos).isLessThan(ofMillis(3).toNanos());
+    }
+}
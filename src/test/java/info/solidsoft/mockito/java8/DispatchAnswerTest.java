@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.api.WithBDDMockito;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import info.solidsoft.mockito.java8.domain.TopedoType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static info.solidsoft.mockito.java8.DispatchAnswer.dispatchTable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchAnswerTest implements WithBDDMockito {
+
+    @Mock
+    private TacticalStation ts;
+
+    @Test
+    void shouldAnswerWithFirstMatchingRule() {
+        //given
+        DispatchAnswer<ShipSearchCriteria, Integer> rangeTable = givenTable(ts.findNumberOfShipsInRangeByCriteria(any()));
+        rangeTable
+                .rule(c -> c.getMinimumRange() > 1000, "minimum range above 1000", 4)
+                .rule(c -> c.getMinimumRange() > 500, "minimum range above 500", 2)
+                .otherwise(0);
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2))).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2))).isEqualTo(2);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(100, 2))).isEqualTo(0);
+        //and
+        assertThat(rangeTable.getHitCount(0)).isEqualTo(1);
+        assertThat(rangeTable.getHitCount(1)).isEqualTo(1);
+        assertThat(rangeTable.getUnmatchedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldComputeAnswerFromArgument() {
+        //given
+        DispatchAnswer<ShipSearchCriteria, Integer> rangeTable = givenTable(ts.findNumberOfShipsInRangeByCriteria(any()));
+        rangeTable.ruleAnswering(c -> c.getNumberOfPhasers() > 0, "with phasers", c -> c.getNumberOfPhasers() * 2);
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 3))).isEqualTo(6);
+    }
+
+    @Test
+    void shouldReportRuleDescriptionsIfNoRuleMatched() {
+        //given
+        DispatchAnswer<ShipSearchCriteria, Integer> rangeTable = givenTable(ts.findNumberOfShipsInRangeByCriteria(any()));
+        rangeTable
+                .rule(c -> c.getMinimumRange() > 1000, "minimum range above 1000", 4)
+                .rule(c -> c.getMinimumRange() > 500, 2);
+        //expect
+        assertThatThrownBy(() -> ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(100, 2)))
+                .isInstanceOf(MockitoException.class)
+                .hasMessageContaining("No rule of dispatch table matched argument: ShipSearchCriteria{minimumRange=100, numberOfPhasers=2}\n" +
+                        "Dispatch table with rules:\n" +
+                        " - minimum range above 1000\n" +
+                        " - " + LambdaMatcher.DEFAULT_DESCRIPTION);
+    }
+
+    @Test
+    void shouldEvaluateCheapRulesFirstIfRequested() {
+        //given
+        List<String> evaluatedRules = new ArrayList<>();
+        DispatchAnswer<ShipSearchCriteria, Integer> rangeTable = givenTable(ts.findNumberOfShipsInRangeByCriteria(any()));
+        rangeTable
+                .rule(c -> evaluatedRules.add("expensive") && c.getMinimumRange() > 1000, 4).withCost(100)
+                .rule(c -> evaluatedRules.add("cheap") && c.getMinimumRange() <= 1000, 2).withCost(1)
+                .cheapFirst();
+        //when
+        int numberOfShips = ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2));
+        //then
+        assertThat(numberOfShips).isEqualTo(2);
+        assertThat(evaluatedRules).containsExactly("cheap");
+        assertThat(rangeTable.getHitCount(1)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDispatchOnGivenArgument() {
+        //given
+        DispatchAnswer<TopedoType, Void> reloadTable = dispatchTable();
+        reloadTable.onArgumentAt(1)
+                .rule(t -> t == TopedoType.PHOTON, "photon torpedo", null)
+                .otherwise(null);
+        willDispatch(reloadTable).given(ts).reloadTubeWithGivenTorpedoType(anyInt(), any());
+        //when
+        ts.reloadTubeWithGivenTorpedoType(1, TopedoType.PHOTON);
+        ts.reloadTubeWithGivenTorpedoType(2, TopedoType.PLASMA);
+        //then
+        assertThat(reloadTable.getHitCount(0)).isEqualTo(1);
+        assertThat(reloadTable.getUnmatchedCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.api.WithBDDMockito;
+import info.solidsoft.mockito.java8.domain.ShipRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.base.MockitoException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FutureAnswersTest implements WithBDDMockito {
+
+    private final ShipRegistry registry = mock(ShipRegistry.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnNewCompletedFutureForEveryCall() {
+        //given
+        given(registry.findShipNameAsync(1701)).willAnswer(completedWith("Enterprise"));
+        //when
+        CompletableFuture<String> firstFuture = registry.findShipNameAsync(1701);
+        CompletableFuture<String> secondFuture = registry.findShipNameAsync(1701);
+        //then
+        assertThat(firstFuture).isCompletedWithValue("Enterprise");
+        assertThat(secondFuture).isNotSameAs(firstFuture).isCompletedWithValue("Enterprise");
+    }
+
+    @Test
+    void shouldReturnFutureCompletedExceptionallyForCompletionStage() {
+        //given
+        willCompleteExceptionally(new IllegalStateException("Registry offline")).given(registry).getNumberOfRegisteredShipsAsync();
+        //expect
+        assertThat(registry.getNumberOfRegisteredShipsAsync().toCompletableFuture())
+                .hasFailedWithThrowableThat().isInstanceOf(IllegalStateException.class).hasMessage("Registry offline");
+    }
+
+    @Test
+    void shouldCompleteWithResultOfTypedLambda() {
+        //given
+        willCompleteWithResultOf((Integer number) -> "NCC-" + number).given(registry).findShipNameAsync(anyInt());
+        //expect
+        assertThat(registry.findShipNameAsync(1701)).isCompletedWithValue("NCC-1701");
+    }
+
+    @Test
+    void shouldCompleteOnExecutorOutOfOrder() throws Exception {
+        //given
+        CountDownLatch firstCallRelease = new CountDownLatch(1);
+        given(registry.findShipNameAsync(anyInt())).willAnswer(completedOn(executor, (Integer number) -> {
+            if (number == 1) {
+                awaitUninterruptibly(firstCallRelease);
+            }
+            return "NCC-" + number;
+        }));
+        //when
+        CompletableFuture<String> firstFuture = registry.findShipNameAsync(1);
+        CompletableFuture<String> secondFuture = registry.findShipNameAsync(2);
+        //then
+        assertThat(secondFuture.get(5, TimeUnit.SECONDS)).isEqualTo("NCC-2");
+        assertThat(firstFuture).isNotDone();
+        firstCallRelease.countDown();
+        assertThat(firstFuture.get(5, TimeUnit.SECONDS)).isEqualTo("NCC-1");
+    }
+
+    @Test
+    void shouldCompleteOnExecutorWithSupplier() throws Exception {
+        //given
+        willCompleteOn(executor, () -> 1701).given(registry).getNumberOfRegisteredShipsAsync();
+        //expect
+        assertThat(registry.getNumberOfRegisteredShipsAsync().toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo(1701);
+    }
+
+    @Test
+    void shouldRejectMethodNotReturningFuture() {
+        assertThatThrownBy(() -> given(registry.findShipName(1701)).willAnswer(completedWith("Enterprise")))
+                .isInstanceOf(MockitoException.class)
+                .hasMessage("Future answer can be only used for method returning CompletableFuture or CompletionStage, but findShipName() returns String");
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.base.MockitoAssertionError;
+import org.mockito.exceptions.base.MockitoException;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static info.solidsoft.mockito.java8.InvocationAwaiter.withAwaiter;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class InvocationAwaiterTest {
+
+    private final InvocationAwaiter awaiter = new InvocationAwaiter();
+    private final TacticalStation ts = mock(TacticalStation.class, withAwaiter(awaiter));
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnAsSoonAsMatchingInvocationArrives() {
+        //given
+        executor.schedule(() -> ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2)), 50, TimeUnit.MILLISECONDS);
+        long startTime = System.nanoTime();
+        //when
+        awaiter.timeoutAwait(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getMinimumRange() > 1000, Duration.ofSeconds(10));
+        //then
+        assertThat(System.nanoTime() - startTime).isLessThan(TimeUnit.SECONDS.toNanos(5));
+        verifyNoMoreInteractions(ts);   //matching invocation marked as verified
+    }
+
+    @Test
+    void shouldTakeAlreadyRecordedInvocationsIntoAccount() {
+        //given
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        executor.schedule(() -> ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(2000, 2)), 20, TimeUnit.MILLISECONDS);
+        //expect
+        awaiter.timeoutAwait(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getMinimumRange() > 1000, 2, Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldEvaluatePredicateOnlyOncePerInvocation() {
+        //given
+        AtomicInteger evaluationCounter = new AtomicInteger();
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(500, 2));
+        executor.schedule(() -> ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2)), 20, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2)), 40, TimeUnit.MILLISECONDS);
+        //when
+        awaiter.timeoutAwait(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> {
+            evaluationCounter.incrementAndGet();
+            return c.getMinimumRange() > 1000;
+        }, Duration.ofSeconds(10));
+        //then
+        assertThat(evaluationCounter).hasValue(3);
+    }
+
+    @Test
+    void shouldFailWhenNotEnoughMatchingInvocationsArrivedInTime() {
+        //given
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2));
+        //expect
+        assertThatThrownBy(() -> awaiter.timeoutAwait(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getMinimumRange() > 1000,
+                2, Duration.ofMillis(50)))
+                .isInstanceOf(MockitoAssertionError.class)
+                .hasMessage("findNumberOfShipsInRangeByCriteria() with argument matching predicate:\nWanted at least 2 time(s) within 50 ms, but was 1");
+    }
+
+    @Test
+    void shouldReportPredicateFailureInVerifyingThread() {
+        //given
+        executor.schedule(() -> ts.findNumberOfShipsInRangeByCriteria(null), 20, TimeUnit.MILLISECONDS);
+        //expect
+        assertThatThrownBy(() -> awaiter.timeoutAwait(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getMinimumRange() > 1000,
+                Duration.ofSeconds(10)))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldRejectMockWithoutAwaiterRegistered() {
+        //given
+        TacticalStation notObservedTs = mock(TacticalStation.class);
+        //expect
+        assertThatThrownBy(() -> awaiter.timeoutAwait(notObservedTs, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getMinimumRange() > 1000,
+                Duration.ofSeconds(10)))
+                .isInstanceOf(MockitoException.class)
+                .hasMessageContaining("withAwaiter(awaiter)");
+    }
+}
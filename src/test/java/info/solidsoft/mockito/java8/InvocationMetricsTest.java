@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.TimeUnit;
+
+import static info.solidsoft.mockito.java8.InvocationMetrics.withMetrics;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class InvocationMetricsTest {
+
+    private final InvocationMetrics metrics = new InvocationMetrics();
+    private final TacticalStation ts = mock(TacticalStation.class, withMetrics(metrics));
+
+    @Test
+    void shouldCountInvocationsPerMethod() {
+        //when
+        ts.fireTorpedo(1);
+        ts.fireTorpedo(2);
+        ts.getNumberOfTubes();
+        //then
+        assertThat(metrics.getMethodMetrics("fireTorpedo").getInvocationCount()).isEqualTo(2);
+        assertThat(metrics.getMethodMetrics("getNumberOfTubes").getInvocationCount()).isEqualTo(1);
+        assertThat(metrics.getMethodMetrics("firePhaser").getInvocationCount()).isZero();
+        assertThat(metrics.getTotalInvocationCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotCountCallsInVerification() {
+        //given
+        ts.fireTorpedo(1);
+        //when
+        verify(ts).fireTorpedo(1);
+        //then
+        assertThat(metrics.getMethodMetrics("fireTorpedo").getInvocationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordAnswerLatency() {
+        //given
+        given(ts.getNumberOfTubes()).willAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(20);
+            return 4;
+        });
+        metrics.reset();
+        //when
+        ts.getNumberOfTubes();
+        //then
+        InvocationMetrics.MethodMetrics methodMetrics = metrics.getMethodMetrics("getNumberOfTubes");
+        assertThat(methodMetrics.getInvocationCount()).isEqualTo(1);
+        assertThat(methodMetrics.getLatencyAtPercentile(50.0, TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(17);  //12.5% precision
+        assertThat(methodMetrics.getMaxLatency(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+        assertThat(methodMetrics.getThroughputPerSecond()).isBetween(0.1, 50.0);
+    }
+
+    @Test
+    void shouldCountFailedInvocations() {
+        //given
+        willThrow(IllegalStateException.class).given(ts).firePhaser();
+        metrics.reset();
+        //when
+        assertThatThrownBy(ts::firePhaser).isInstanceOf(IllegalStateException.class);
+        //then
+        assertThat(metrics.getMethodMetrics("firePhaser").getFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAggregateMetricsOfManyMocks() {
+        //given
+        TacticalStation otherTs = mock(TacticalStation.class, metrics.registerIn(Mockito.withSettings().stubOnly()));
+        //when
+        ts.fireTorpedo(1);
+        otherTs.fireTorpedo(2);
+        //then
+        assertThat(metrics.getMethodMetrics("fireTorpedo").getInvocationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReportMostOftenCalledMethodsFirst() {
+        //given
+        ts.getNumberOfTubes();
+        ts.fireTorpedo(1);
+        ts.fireTorpedo(2);
+        //when
+        String report = metrics.report();
+        //then
+        assertThat(report).startsWith("Invocation metrics (3 invocation(s)):\n - fireTorpedo: 2 invocation(s), 0 failure(s)");
+        assertThat(report).contains("\n - getNumberOfTubes: 1 invocation(s)").contains("p99=");
+    }
+}
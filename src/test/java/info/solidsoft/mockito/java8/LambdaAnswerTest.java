@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.api.WithBDDMockito;
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import info.solidsoft.mockito.java8.domain.TacticalStation.TubeStatus;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.base.MockitoException;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import static info.solidsoft.mockito.java8.LambdaAnswer.answerWith;
+import static info.solidsoft.mockito.java8.LambdaAnswer.answerWithThrowing;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LambdaAnswerTest implements WithBDDMockito {
+
+    private final TacticalStation ts = mock(TacticalStation.class);
+
+    @Test
+    void shouldAnswerWithTypedArgument() {
+        //given
+        given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(answerWith((ShipSearchCriteria c) -> c.getMinimumRange() > 1000 ? 4 : 0));
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2))).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2))).isEqualTo(0);
+    }
+
+    @Test
+    void shouldAnswerWithMultipleArgumentsIncludingPrimitives() {
+        //given
+        given(ts.smellyFindNumberOfShipsInRangeByCriteria(anyInt(), anyString(), anyInt()))
+                .willAnswer(answerWith((Integer range, String partOfName, Integer phasers) -> range / 100 + partOfName.length() + phasers));
+        //expect
+        assertThat(ts.smellyFindNumberOfShipsInRangeByCriteria(1000, "Enterprise", 2)).isEqualTo(22);
+    }
+
+    @Test
+    void shouldAnswerWithLambdaInWillGivenStyle() {
+        //given
+        willAnswerWith((Integer tubeNumber) -> tubeNumber > 2 ? TubeStatus.BROKEN : TubeStatus.LOADED).given(ts).getTubeStatus(anyInt());
+        //expect
+        assertThat(ts.getTubeStatus(1)).isEqualTo(TubeStatus.LOADED);
+        assertThat(ts.getTubeStatus(3)).isEqualTo(TubeStatus.BROKEN);
+    }
+
+    @Test
+    void shouldRethrowCheckedExceptionFromThrowingLambda() {
+        //given
+        given(ts.getTubeStatus(anyInt())).willAnswer(answerWithThrowing((Integer tubeNumber) -> {
+            throw new IOException("Tube " + tubeNumber + " not responding");
+        }));
+        //expect
+        assertThatThrownBy(() -> ts.getTubeStatus(4))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Tube 4 not responding");
+    }
+
+    @Test
+    void shouldReportLambdaWithWrongNumberOfArgumentsWhenStubbing() {
+        assertThatThrownBy(() -> given(ts.getTubeStatus(anyInt())).willAnswer(answerWith((Integer tubeNumber, String name) -> TubeStatus.LOADED)))
+                .isInstanceOf(MockitoException.class)
+                .hasMessage("Answer lambda takes 2 argument(s), but stubbed method getTubeStatus() takes 1");
+    }
+
+    @Test
+    void shouldReportLambdaWithIncompatibleArgumentTypeWhenStubbing() {
+        assertThatThrownBy(() -> willAnswerWith((String tubeName) -> TubeStatus.LOADED).given(ts).getTubeStatus(anyInt()))
+                .isInstanceOf(MockitoException.class)
+                .hasMessage("Answer lambda parameter 1 of type String is not compatible with parameter of type int of stubbed method getTubeStatus()");
+    }
+
+    @Test
+    void shouldValidateFunctionImplementedByClassNotDirectlyDeclaringIt() {
+        //given
+        given(ts.getTubeStatus(anyInt())).willAnswer(answerWith(new LoadedTubeStatusLookup()));
+        //expect
+        assertThat(ts.getTubeStatus(1)).isEqualTo(TubeStatus.LOADED);
+        assertThatThrownBy(() -> given(ts.findNumberOfShipsInRangeByCriteria(any())).willAnswer(answerWith(new LoadedTubeStatusLookup())))
+                .isInstanceOf(MockitoException.class)
+                .hasMessage("Answer lambda parameter 1 of type Integer is not compatible with parameter of type ShipSearchCriteria " +
+                        "of stubbed method findNumberOfShipsInRangeByCriteria()");
+    }
+
+    private static class TubeStatusLookup implements Comparable<TubeStatusLookup>, Function<Integer, TubeStatus> {
+
+        @Override
+        public int compareTo(TubeStatusLookup other) {
+            return 0;
+        }
+
+        @Override
+        public TubeStatus apply(Integer tubeNumber) {
+            return TubeStatus.LOADED;
+        }
+    }
+
+    private static class LoadedTubeStatusLookup extends TubeStatusLookup {     //implements no interface directly
+    }
+}
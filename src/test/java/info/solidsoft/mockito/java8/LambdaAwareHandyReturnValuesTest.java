@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LambdaAwareHandyReturnValuesTest {
+
+    private final LambdaAwareHandyReturnValues handyReturnValues = new LambdaAwareHandyReturnValues();
+
+    @Test
+    void shouldResolveLambdaTypeOnlyOnceForGivenCallSite() {
+        //when
+        for (int i = 0; i < 5; i++) {
+            Integer returnValue = handyReturnValues.returnForConsumerLambda((Integer tubeNumber) -> { });
+            assertThat(returnValue).isZero();
+        }
+        //then
+        assertThat(handyReturnValues.getCacheMissCount()).isEqualTo(1);
+        assertThat(handyReturnValues.getCacheHitCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldResolveTypeSeparatelyForDifferentLambdas() {
+        //given
+        Consumer<ShipSearchCriteria> criteriaConsumer = sc -> { };
+        ThrowingConsumer<Long> throwingConsumer = l -> { };
+        //when
+        ShipSearchCriteria criteria = handyReturnValues.returnForConsumerLambda(criteriaConsumer);
+        Long longValue = handyReturnValues.returnForConsumerLambdaChecked(throwingConsumer);
+        handyReturnValues.returnForConsumerLambdaChecked(throwingConsumer);
+        //then
+        assertThat(criteria).isNull();
+        assertThat(longValue).isZero();
+        assertThat(handyReturnValues.getCacheMissCount()).isEqualTo(2);
+        assertThat(handyReturnValues.getCacheHitCount()).isEqualTo(1);
+    }
+}
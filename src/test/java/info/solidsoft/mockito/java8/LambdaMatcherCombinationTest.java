@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static info.solidsoft.mockito.java8.LambdaMatcher.allOf;
+import static info.solidsoft.mockito.java8.LambdaMatcher.anyOf;
+import static info.solidsoft.mockito.java8.LambdaMatcher.lambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.lambdaLazy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LambdaMatcherCombinationTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    private final LambdaMatcher<ShipSearchCriteria> longRange = lambda(c -> c.getMinimumRange() > 1000, "range above 1000");
+    private final LambdaMatcher<ShipSearchCriteria> manyPhasers = lambda(c -> c.getNumberOfPhasers() > 2, "more than 2 phasers");
+
+    @Test
+    void shouldStubWithCombinedMatchers() {
+        //given
+        given(ts.findNumberOfShipsInRangeByCriteria(argThat(longRange.and(manyPhasers)))).willReturn(4);
+        willReturn(1).given(ts).findNumberOfShipsInRangeByCriteria(argThat(longRange.negate().or(manyPhasers.negate())));    //no call with null
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 4))).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2))).isEqualTo(1);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 4))).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDescribeCombinationInErrorMessage() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //then
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(argThat(
+                allOf(longRange, anyOf(manyPhasers, longRange.negate())))))
+                .hasMessageContaining("(range above 1000 and (more than 2 phasers or not(range above 1000)))");
+    }
+
+    @Test
+    void shouldFlattenNestedCombinationOfTheSameKind() {
+        //when
+        LambdaMatcher<ShipSearchCriteria> combination = longRange.and(manyPhasers).and(lambda(c -> true, "any"));
+        //then
+        assertThat(combination.toString()).isEqualTo("(range above 1000 and more than 2 phasers and any)");
+    }
+
+    @Test
+    void shouldShortCircuitEvaluatingCheapestPredicatesFirst() {
+        //given
+        List<String> evaluated = new ArrayList<>();
+        LambdaMatcher<ShipSearchCriteria> expensive = lambda((ShipSearchCriteria c) -> evaluated.add("expensive"), "expensive").withCost(100);
+        LambdaMatcher<ShipSearchCriteria> cheap = lambda((ShipSearchCriteria c) -> !evaluated.add("cheap"), "cheap").withCost(1);
+        //when
+        boolean matches = expensive.and(cheap).matches(new ShipSearchCriteria(1500, 2));
+        //then
+        assertThat(matches).isFalse();
+        assertThat(evaluated).containsExactly("cheap");
+    }
+
+    @Test
+    void shouldNotBuildDescriptionIfNotNeeded() {
+        //given
+        LambdaMatcher<ShipSearchCriteria> lazilyDescribed = lambdaLazy(c -> true, () -> {
+            throw new AssertionError("Description should not be built");
+        });
+        //expect
+        assertThat(lazilyDescribed.and(longRange).matches(new ShipSearchCriteria(1500, 2))).isTrue();
+    }
+
+    @Test
+    void shouldRejectCostHintForCombination() {
+        assertThatThrownBy(() -> longRange.or(manyPhasers).withCost(1))
+                .isInstanceOf(MockitoException.class)
+                .hasMessage("Cost hint can be only set for a single lambda, not for a combination of matchers");
+    }
+}
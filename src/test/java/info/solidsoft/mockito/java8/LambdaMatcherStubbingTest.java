@@ -14,7 +14,10 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 
+import static info.solidsoft.mockito.java8.LambdaMatcher.argDoubleLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argIntLambda;
 import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLongLambda;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -35,6 +38,36 @@ class LambdaMatcherStubbingTest {
         assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2))).isEqualTo(0);
     }
 
+    @Test
+    void shouldAllowToUseIntLambdaInStubbing() {
+        //given
+        given(ts.getTubeStatus(argIntLambda(tube -> tube > 2))).willReturn(TacticalStation.TubeStatus.BROKEN);
+        //expect
+        assertThat(ts.getTubeStatus(3)).isEqualTo(TacticalStation.TubeStatus.BROKEN);
+        //expect
+        assertThat(ts.getTubeStatus(1)).isNull();
+    }
+
+    @Test
+    void shouldAllowToUseLongLambdaInStubbing() {
+        //given
+        given(ts.scheduleSelfCheck(argLongLambda(delay -> delay >= 1000L))).willReturn(1);
+        //expect
+        assertThat(ts.scheduleSelfCheck(5000L)).isEqualTo(1);
+        //expect
+        assertThat(ts.scheduleSelfCheck(10L)).isEqualTo(0);
+    }
+
+    @Test
+    void shouldAllowToUseDoubleLambdaInStubbing() {
+        //given
+        given(ts.raiseShields(argDoubleLambda(ratio -> ratio <= 1.0))).willReturn(true);
+        //expect
+        assertThat(ts.raiseShields(0.75)).isTrue();
+        //expect
+        assertThat(ts.raiseShields(1.5)).isFalse();
+    }
+
     @SuppressWarnings("Convert2Lambda")
     @Test
     void stubbingWithCustomAnswerShouldBeLonger() {
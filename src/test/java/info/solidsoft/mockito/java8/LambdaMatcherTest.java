@@ -15,8 +15,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static info.solidsoft.mockito.java8.LambdaMatcher.argIntLambda;
 import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambdaLazy;
 import static info.solidsoft.mockito.java8.LambdaMatcher.argLambdaThrowing;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -146,6 +149,83 @@ class LambdaMatcherTest {
 
     }
 
+    @Test
+    void shouldNotBuildLazyDescriptionIfNotNeeded() {
+        //given
+        AtomicInteger descriptionBuildCounter = new AtomicInteger();
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        //then
+        verify(ts).findNumberOfShipsInRangeByCriteria(argLambdaLazy(c -> c.getMinimumRange() < 2000, () -> {
+            descriptionBuildCounter.incrementAndGet();
+            return "minimum range closer than 2000";
+        }));
+        assertThat(descriptionBuildCounter).hasValue(0);
+    }
+
+    @Test
+    void shouldBuildLazyDescriptionOnlyOnceInErrorMessage() {
+        //given
+        AtomicInteger descriptionBuildCounter = new AtomicInteger();
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        //then
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(argLambdaLazy(c -> c.getMinimumRange() < 100, () -> {
+            descriptionBuildCounter.incrementAndGet();
+            return "minimum range closer than 100";
+        })))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("    minimum range closer than 100\n");
+        assertThat(descriptionBuildCounter).hasValue(1);
+    }
+
+    @Test
+    void shouldUseDefaultDescriptionIfLazyDescriptionIsNull() {
+        //given
+        AtomicInteger descriptionBuildCounter = new AtomicInteger();
+        LambdaMatcher<ShipSearchCriteria> matcher = LambdaMatcher.lambdaLazy(c -> true, () -> {
+            descriptionBuildCounter.incrementAndGet();
+            return null;
+        });
+        //when
+        matcher.toString();
+        //then
+        assertThat(matcher).hasToString(LambdaMatcher.DEFAULT_DESCRIPTION);
+        assertThat(descriptionBuildCounter).hasValue(1);
+    }
+
+    @Test
+    void shouldAcceptNullDescription() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        //then
+        verify(ts).findNumberOfShipsInRangeByCriteria(argLambda(c -> c.getMinimumRange() < 2000, null));
+    }
+
+    @Test
+    void shouldFormatLazyDescriptionInErrorMessage() {
+        //given
+        int maximumRange = 100;
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(searchCriteria);
+        //then
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(argLambdaThrowing(c -> c.getMinimumRange() < maximumRange,
+                "minimum range closer than %d", maximumRange)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("    minimum range closer than 100\n");
+    }
+
+    @Test
+    void shouldKeepDescriptionInErrorMessageForIntLambda() {
+        //when
+        ts.fireTorpedo(2);
+        //then
+        assertThatThrownBy(() -> verify(ts).fireTorpedo(argIntLambda(tube -> tube > 5, "tube number greater than 5")))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Argument(s) are different! Wanted:\n" +
+                        "ts.fireTorpedo(tube number greater than 5);");
+    }
+
     @Test
     void shouldAcceptLambdaWhichMayThrowCheckedException() throws Exception {
         //when
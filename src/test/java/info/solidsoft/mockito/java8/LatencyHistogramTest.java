@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void shouldMapValuesToBucketsWithLimitedRelativeError() {
+        for (long value : new long[]{0, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+            long lowestEquivalentValue = LatencyHistogram.lowestEquivalentValueOf(LatencyHistogram.bucketIndexOf(value));
+            assertThat(lowestEquivalentValue).isLessThanOrEqualTo(value);
+            assertThat((double) lowestEquivalentValue).isCloseTo(value, within(value / 8.0));
+        }
+    }
+
+    @Test
+    void shouldReturnValuesAtPercentiles() {
+        //given
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        //expect
+        assertThat((double) histogram.getValueAtPercentile(50.0)).isCloseTo(500_000, within(500_000 / 8.0));
+        assertThat((double) histogram.getValueAtPercentile(99.0)).isCloseTo(990_000, within(990_000 / 8.0));
+        assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(1_000_000);
+        assertThat(histogram.getMaxValue()).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void shouldReturnZeroForEmptyHistogram() {
+        assertThat(histogram.getValueAtPercentile(99.0)).isZero();
+    }
+
+    @Test
+    void shouldCountAllValuesRecordedConcurrently() throws InterruptedException {
+        //given
+        int numberOfThreads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        //when
+        for (int thread = 0; thread < numberOfThreads; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(1000);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        histogram.record(2000);
+        //then
+        assertThat(histogram.getValueAtPercentile(100.0 * 400_000 / 400_001)).isLessThan(2000);
+        assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(2000);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.api.WithBDDMockito;
+import info.solidsoft.mockito.java8.domain.ShipRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.mockito.exceptions.verification.NoInteractionsWanted;
+import org.mockito.exceptions.verification.WantedButNotInvoked;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(LazyMockExtension.class)
+class LazyMocksTest implements WithBDDMockito {
+
+    @LazyMock
+    private ShipRegistry injectedRegistry;
+
+    private final ShipRegistry registry = lazyMock(ShipRegistry.class);
+
+    @Test
+    void shouldNotCreateMockBeforeFirstUse() {
+        assertThat(LazyMocks.isMaterialized(registry)).isFalse();
+        assertThat(registry.toString()).isEqualTo("Lazy mock for ShipRegistry (not created yet)");
+        //when
+        registry.getNumberOfRegisteredShips();
+        //then
+        assertThat(LazyMocks.isMaterialized(registry)).isTrue();
+        assertThat(Mockito.mockingDetails(LazyMocks.unwrap(registry)).isMock()).isTrue();
+    }
+
+    @Test
+    void shouldStubAndVerifyThroughHandle() {
+        //given
+        given(registry.findShipName(1701)).willReturn("Enterprise");
+        //when
+        String shipName = registry.findShipName(1701);
+        //then
+        assertThat(shipName).isEqualTo("Enterprise");
+        then(registry).should().findShipName(1701);
+        verify(registry).findShipName(1701);
+    }
+
+    @Test
+    void shouldStubNeverUsedHandleWithMatchers() {
+        //given
+        given(registry.findShipName(anyInt())).willReturn("Enterprise");
+        given(injectedRegistry.isShipRegistered(eq("Galaxy"), anyInt())).willReturn(true);
+        //expect
+        assertThat(registry.findShipName(1701)).isEqualTo("Enterprise");
+        assertThat(injectedRegistry.isShipRegistered("Galaxy", 1701)).isTrue();
+        assertThat(injectedRegistry.isShipRegistered("Defiant", 1701)).isFalse();
+    }
+
+    @Test
+    void shouldVerifyAllInvocationsThroughHandle() {
+        //when
+        registry.findShipName(1701);
+        //then
+        BulkVerification.bulkVerification().verifyAll(registry, ShipRegistry::findShipName, number -> number > 1000);
+    }
+
+    @Test
+    void shouldStubWithDoAndWillStyleThroughHandle() {
+        //given
+        doReturn(5).when(registry).getNumberOfRegisteredShips();
+        willReturn("Defiant").willThrow(new IllegalStateException()).given(injectedRegistry).findShipName(74205);
+        //expect
+        assertThat(registry.getNumberOfRegisteredShips()).isEqualTo(5);
+        assertThat(injectedRegistry.findShipName(74205)).isEqualTo("Defiant");
+        assertThatThrownBy(() -> injectedRegistry.findShipName(74205)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldVerifyInOrderThroughHandles() {
+        //given
+        registry.getNumberOfRegisteredShips();
+        injectedRegistry.findShipName(1701);
+        InOrder inOrder = inOrder(registry, injectedRegistry);
+        //expect
+        inOrder.verify(registry).getNumberOfRegisteredShips();
+        inOrder.verify(injectedRegistry).findShipName(1701);
+    }
+
+    @Test
+    void shouldSkipNeverMaterializedHandlesVerifyingNoMoreInteractions() {
+        //given
+        registry.getNumberOfRegisteredShips();
+        //expect
+        assertThatThrownBy(() -> verifyNoMoreInteractions(registry, injectedRegistry)).isInstanceOf(NoInteractionsWanted.class);
+        verifyZeroInteractions(injectedRegistry);
+        assertThat(LazyMocks.isMaterialized(injectedRegistry)).isFalse();
+    }
+
+    @Test
+    void shouldReportMissingInvocationOfNeverUsedHandle() {
+        assertThatThrownBy(() -> verify(injectedRegistry).findShipName(1701)).isInstanceOf(WantedButNotInvoked.class);
+    }
+
+    @Test
+    void shouldCountCreatedAndMaterializedHandles() {
+        //given
+        long createdBefore = LazyMocks.getCreatedHandleCount();
+        long materializedBefore = LazyMocks.getMaterializedHandleCount();
+        //when
+        lazyMock(ShipRegistry.class);
+        lazyMock(ShipRegistry.class).getNumberOfRegisteredShips();
+        //then
+        assertThat(LazyMocks.getCreatedHandleCount()).isGreaterThanOrEqualTo(createdBefore + 2);
+        assertThat(LazyMocks.getMaterializedHandleCount()).isGreaterThanOrEqualTo(materializedBefore + 1);
+    }
+
+    @Test
+    void shouldMockClassImmediately() {
+        //when
+        @SuppressWarnings("unchecked")
+        ArrayList<String> list = lazyMock(ArrayList.class);
+        //then
+        assertThat(list).isNotInstanceOf(LazyMocks.LazyMockHandle.class);
+        assertThat(Mockito.mockingDetails(list).isMock()).isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+
+import static info.solidsoft.mockito.java8.LambdaMatcher.argLambda;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class MatcherProfilerTest {
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        //given
+        TacticalStation ts = mock(TacticalStation.class);
+        given(ts.findNumberOfShipsInRangeByCriteria(argLambda(c -> c.getMinimumRange() > 1000))).willReturn(4);
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //then
+        assertThat(MatcherProfiler.isEnabled()).isFalse();
+        assertThat(MatcherProfiler.profileForNewMatcher("argLambda")).isNull();
+        assertThat(MatcherProfiler.report()).isEqualTo("Matcher profile (0 call site(s), ranked by cumulative time):");
+    }
+
+    @Test
+    void shouldAggregateEvaluationsInProfile() {
+        //given
+        MatcherProfiler.Profile profile = new MatcherProfiler.Profile("argLambda at ShipTest.shouldFire(ShipTest.java:42)");
+        //when
+        profile.record(System.nanoTime() - 2_000_000);
+        profile.record(System.nanoTime() - 1_000_000);
+        //then
+        assertThat(profile.getEvaluationCount()).isEqualTo(2);
+        assertThat(profile.getCumulativeNanos()).isGreaterThanOrEqualTo(3_000_000);
+        assertThat(profile.getMaxNanos()).isBetween(2_000_000L, profile.getCumulativeNanos());
+        assertThat(profile.toString()).startsWith("argLambda at ShipTest.shouldFire(ShipTest.java:42): 2 evaluation(s), cumulative ");
+    }
+
+    @Test
+    void shouldAttributeMatcherToFirstFrameOutsideLibrary() {
+        //given
+        StackTraceElement[] stackTrace = {
+                new StackTraceElement(MatcherProfiler.class.getName(), "profileForNewMatcher", "MatcherProfiler.java", 60),
+                new StackTraceElement(LambdaMatcher.class.getName(), "<init>", "LambdaMatcher.java", 120),
+                new StackTraceElement(LambdaMatcher.class.getName() + "$IntLambdaMatcher", "<init>", "LambdaMatcher.java", 300),
+                new StackTraceElement("info.solidsoft.mockito.java8.api.WithMockito", "argLambda", "WithMockito.java", 80),
+                new StackTraceElement(LambdaMatcher.class.getName() + "Test", "shouldMatch", "LambdaMatcherTest.java", 42),
+        };
+        //expect
+        assertThat(MatcherProfiler.callSiteIn(stackTrace)).isEqualTo(LambdaMatcher.class.getName() + "Test.shouldMatch(LambdaMatcherTest.java:42)");
+    }
+
+    @Test
+    void shouldShareProfileOfCallSiteAndRankReportByCumulativeTime() {
+        //given
+        MatcherProfiler.reset();
+        MatcherProfiler.Profile cheapProfile = MatcherProfiler.profileFor("argLambda", "ShipTest.cheap(ShipTest.java:10)");
+        MatcherProfiler.Profile expensiveProfile = MatcherProfiler.profileFor("assertArg", "ShipTest.expensive(ShipTest.java:20)");
+        //when
+        cheapProfile.record(System.nanoTime());
+        expensiveProfile.record(System.nanoTime() - 5_000_000);
+        MatcherProfiler.profileFor("argLambda", "ShipTest.cheap(ShipTest.java:10)").record(System.nanoTime());
+        //then
+        try {
+            assertThat(cheapProfile.getEvaluationCount()).isEqualTo(2);
+            assertThat(MatcherProfiler.report())
+                    .startsWith("Matcher profile (2 call site(s), ranked by cumulative time):\n" +
+                            " - assertArg at ShipTest.expensive(ShipTest.java:20): 1 evaluation(s)")
+                    .contains("\n - argLambda at ShipTest.cheap(ShipTest.java:10): 2 evaluation(s)");
+        } finally {
+            MatcherProfiler.reset();
+        }
+    }
+}
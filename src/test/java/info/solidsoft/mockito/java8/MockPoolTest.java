@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.api.WithBDDMockito;
+import info.solidsoft.mockito.java8.domain.ShipRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MockPoolTest implements WithBDDMockito {
+
+    @AfterEach
+    void releaseMocks() {
+        MockPool.releaseAll();
+    }
+
+    @Test
+    void shouldReuseReleasedMockInFreshState() {
+        //given
+        ShipRegistry registry = pooledMock(ShipRegistry.class);
+        given(registry.findShipName(1701)).willReturn("Enterprise");
+        registry.findShipName(1701);
+        MockPool.releaseAll();
+        //when
+        ShipRegistry reusedRegistry = pooledMock(ShipRegistry.class);
+        //then
+        assertThat(reusedRegistry).isSameAs(registry);
+        assertThat(reusedRegistry.findShipName(1701)).isNull();
+        assertThat(Mockito.mockingDetails(reusedRegistry).getInvocations()).hasSize(1);
+    }
+
+    @Test
+    void shouldNotHandOutTheSameMockTwiceBeforeRelease() {
+        //when
+        ShipRegistry registry = pooledMock(ShipRegistry.class);
+        ShipRegistry anotherRegistry = pooledMock(ShipRegistry.class);
+        //then
+        assertThat(anotherRegistry).isNotSameAs(registry);
+    }
+
+    @Test
+    void shouldKeepLimitedNumberOfIdleMocksPerType() {
+        int numberOfMocks = MockPool.DEFAULT_MAX_POOLED_MOCKS_PER_TYPE + 1;
+        inFreshThread(() -> {   //with an empty pool
+            //given
+            acquireAndRelease(numberOfMocks);
+            long createdBefore = MockPool.getCreatedMockCount();
+            long reusedBefore = MockPool.getReusedMockCount();
+            //when
+            acquireAndRelease(numberOfMocks);
+            //then
+            assertThat(MockPool.getReusedMockCount() - reusedBefore).isEqualTo(MockPool.DEFAULT_MAX_POOLED_MOCKS_PER_TYPE);
+            assertThat(MockPool.getCreatedMockCount() - createdBefore).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldDetectAndDiscardMockUsedAfterRelease() {
+        inFreshThread(() -> {
+            //given
+            long leakedBefore = MockPool.getLeakedMockCount();
+            ShipRegistry registry = pooledMock(ShipRegistry.class);
+            MockPool.releaseAll();
+            //when
+            registry.getNumberOfRegisteredShips();
+            registry.getNumberOfRegisteredShips();
+            //then
+            assertThat(MockPool.getLeakedMockCount()).isEqualTo(leakedBefore + 1);
+            assertThat(pooledMock(ShipRegistry.class)).isNotSameAs(registry);
+            MockPool.releaseAll();
+        });
+    }
+
+    @Test
+    void shouldDetectUseOfMockDroppedAboveIdleLimit() {
+        inFreshThread(() -> {
+            //given
+            long leakedBefore = MockPool.getLeakedMockCount();
+            ShipRegistry droppedRegistry = null;
+            for (int i = 0; i <= MockPool.DEFAULT_MAX_POOLED_MOCKS_PER_TYPE; i++) {
+                droppedRegistry = pooledMock(ShipRegistry.class);   //the last one above the limit is not returned to a pool
+            }
+            MockPool.releaseAll();
+            //when
+            droppedRegistry.getNumberOfRegisteredShips();
+            //then
+            assertThat(MockPool.getLeakedMockCount()).isEqualTo(leakedBefore + 1);
+        });
+    }
+
+    @Test
+    void shouldCountOldestMockNeverReleasedAboveLimitAsLeaked() {
+        inFreshThread(() -> {
+            //given
+            long leakedBefore = MockPool.getLeakedMockCount();
+            ShipRegistry oldestRegistry = pooledMock(ShipRegistry.class);
+            //when
+            for (int i = 1; i <= MockPool.DEFAULT_MAX_ACQUIRED_MOCKS_PER_THREAD; i++) {
+                pooledMock(ShipRegistry.class);
+            }
+            MockPool.releaseAll();
+            //then
+            assertThat(MockPool.getLeakedMockCount()).isEqualTo(leakedBefore + 1);
+            assertThat(pooledMock(ShipRegistry.class)).isNotSameAs(oldestRegistry);
+            MockPool.releaseAll();
+        });
+    }
+
+    private void acquireAndRelease(int numberOfMocks) {
+        for (int i = 0; i < numberOfMocks; i++) {
+            pooledMock(ShipRegistry.class);
+        }
+        MockPool.releaseAll();
+    }
+
+    private static void inFreshThread(Runnable test) {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture.runAsync(test, executor).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipRegistry;
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//preloaded types are remembered in a JVM, so every test uses different types
+class MockPreloaderTest {
+
+    @Test
+    void shouldGenerateMockClassOnlyOnceForType() {
+        //given
+        long preloadedBefore = MockPreloader.getPreloadedTypeCount();
+        //when
+        MockPreloader.preload(TacticalStation.class).join();
+        CompletableFuture<Void> secondPreload = MockPreloader.preload(TacticalStation.class);
+        //then
+        assertThat(secondPreload).isDone();
+        assertThat(MockPreloader.getPreloadedTypeCount()).isEqualTo(preloadedBefore + 1);
+    }
+
+    @Test
+    void shouldSkipTypesWhichCannotBeMocked() {
+        //given
+        long preloadedBefore = MockPreloader.getPreloadedTypeCount();
+        //when
+        CompletableFuture<Void> preload = MockPreloader.preload(String.class);     //final class
+        //then
+        assertThat(preload.join()).isNull();
+        assertThat(MockPreloader.getPreloadedTypeCount()).isEqualTo(preloadedBefore);
+    }
+
+    @Test
+    void shouldPreloadTypesListedInManifestSkippingNotExistingOnes() {
+        //given
+        long preloadedBefore = MockPreloader.getPreloadedTypeCount();
+        //when
+        MockPreloader.preloadFromManifest(getClass().getClassLoader()).join();
+        //then
+        assertThat(MockPreloader.getPreloadedTypeCount()).isEqualTo(preloadedBefore + 1);   //only ShipSearchCriteria
+        assertThat(MockPreloader.preload(ShipSearchCriteria.class)).isDone();
+    }
+
+    @Test
+    void shouldPreloadTypesOfMockFields() {
+        //given
+        long preloadedBefore = MockPreloader.getPreloadedTypeCount();
+        //when
+        MockPreloader.preloadMockFieldsOf(TestWithMockFields.class).join();
+        //then
+        assertThat(MockPreloader.getPreloadedTypeCount()).isEqualTo(preloadedBefore + 2);
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestWithMockFields {
+
+        @Mock
+        private ShipRegistry registry;
+
+        @LazyMock
+        private Runnable runnable;
+
+        private Comparable<?> notMock;
+    }
+}
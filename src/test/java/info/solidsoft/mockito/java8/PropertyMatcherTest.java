@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.exceptions.base.MockitoException;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static info.solidsoft.mockito.java8.PropertyMatcher.argIntProperty;
+import static info.solidsoft.mockito.java8.PropertyMatcher.argProperty;
+import static info.solidsoft.mockito.java8.PropertyMatcher.property;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyMatcherTest {
+
+    @Mock
+    private TacticalStation ts;
+
+    @Test
+    void shouldStubWithPropertyMatcher() {
+        //given
+        given(ts.findNumberOfShipsInRangeByCriteria(argProperty(ShipSearchCriteria::getMinimumRange, r -> r > 1000))).willReturn(4);
+        //expect
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2))).isEqualTo(4);
+        assertThat(ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2))).isZero();
+    }
+
+    @Test
+    void shouldReportPropertyNameAndValueOnMismatch() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2));
+        //then
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(
+                argProperty(ShipSearchCriteria::getMinimumRange, r -> r > 1000, "above 1000")))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("minimumRange above 1000 (minimumRange was 700)");
+    }
+
+    @Test
+    void shouldReportPropertyNameAndValueOnMismatchForIntProperty() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(700, 2));
+        //then
+        assertThatThrownBy(() -> verify(ts).findNumberOfShipsInRangeByCriteria(
+                argIntProperty(ShipSearchCriteria::getNumberOfPhasers, phasers -> phasers > 2)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("numberOfPhasers matching predicate (numberOfPhasers was 2)");
+    }
+
+    @Test
+    void shouldReadPropertyOncePerEvaluation() {
+        //given
+        AtomicInteger readCounter = new AtomicInteger();
+        CountingCriteria criteria = new CountingCriteria(readCounter);
+        PropertyMatcher<CountingCriteria, Integer> matcher = property(CountingCriteria::getMinimumRange, range -> range > 1000);
+        //when
+        boolean matches = matcher.matches(criteria);
+        //then
+        assertThat(matches).isFalse();
+        assertThat(readCounter).hasValue(1);
+        assertThat(matcher).hasToString("minimumRange matching predicate (minimumRange was 700)");
+    }
+
+    @Test
+    void shouldNotMatchNullArgument() {
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(null);
+        //then
+        verify(ts, never()).findNumberOfShipsInRangeByCriteria(argIntProperty(ShipSearchCriteria::getMinimumRange, r -> true));
+    }
+
+    @Test
+    void shouldRejectLambdaInsteadOfGetterReference() {
+        assertThatThrownBy(() -> argProperty((ShipSearchCriteria c) -> c.getMinimumRange(), r -> r > 1000))
+                .isInstanceOf(MockitoException.class)
+                .hasMessageContaining("A method reference (e.g. TacticalStation::fireTorpedo) is expected");
+    }
+
+    private static class CountingCriteria {
+
+        private final AtomicInteger readCounter;
+
+        private CountingCriteria(AtomicInteger readCounter) {
+            this.readCounter = readCounter;
+        }
+
+        public int getMinimumRange() {
+            readCounter.incrementAndGet();
+            return 700;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.api.WithBDDMockito;
+import info.solidsoft.mockito.java8.domain.ShipRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.exceptions.base.MockitoException;
+
+import java.util.Collections;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamAnswersTest implements WithBDDMockito {
+
+    private final ShipRegistry registry = mock(ShipRegistry.class);
+
+    @Test
+    void shouldReturnFreshStreamForEveryCall() {
+        //given
+        willStream(() -> Stream.of("Enterprise", "Defiant")).given(registry).streamShipNames();
+        //expect
+        assertThat(registry.streamShipNames()).containsExactly("Enterprise", "Defiant");
+        assertThat(registry.streamShipNames()).containsExactly("Enterprise", "Defiant");
+    }
+
+    @Test
+    void shouldReturnFreshStreamAsIteratorAndIterable() {
+        //given
+        given(registry.iterateShipNames()).willAnswer(returnsFreshStream(() -> Stream.of("Enterprise")));
+        given(registry.getShipNames()).willAnswer(returnsFreshStream(() -> Stream.of("Enterprise", "Defiant")));
+        //expect
+        assertThat(registry.iterateShipNames()).toIterable().containsExactly("Enterprise");
+        Iterable<String> shipNames = registry.getShipNames();
+        assertThat(shipNames).containsExactly("Enterprise", "Defiant");
+        assertThat(shipNames).containsExactly("Enterprise", "Defiant");     //Iterable can be iterated many times
+    }
+
+    @Test
+    void shouldRejectFreshStreamForMethodNotReturningStream() {
+        assertThatThrownBy(() -> willStream(() -> Stream.of("Enterprise")).given(registry).findShipName(1701))
+                .isInstanceOf(MockitoException.class)
+                .hasMessage("Fresh stream can be only returned from method returning Stream, Iterator or Iterable, but findShipName() returns String");
+    }
+
+    @Test
+    void shouldReturnConsecutiveElementsOfLazyStream() {
+        //given
+        willReturnFrom(IntStream.iterate(0, i -> i + 1).boxed()).given(registry).nextRegistryNumber();   //infinite
+        //when
+        for (int i = 0; i < 100_000; i++) {
+            registry.nextRegistryNumber();
+        }
+        //then
+        assertThat(registry.nextRegistryNumber()).isEqualTo(100_000);
+    }
+
+    @Test
+    void shouldReturnLastElementWhenIteratorIsExhausted() {
+        //given
+        willReturnFrom(Stream.of("Enterprise", "Defiant").iterator()).given(registry).findShipName(1701);
+        //expect
+        assertThat(registry.findShipName(1701)).isEqualTo("Enterprise");
+        assertThat(registry.findShipName(1701)).isEqualTo("Defiant");
+        assertThat(registry.findShipName(1701)).isEqualTo("Defiant");
+    }
+
+    @Test
+    void shouldReportEmptyIterator() {
+        //given
+        given(registry.findShipName(1701)).willAnswer(returnsElementsOf(Collections.<String>emptyIterator()));
+        //expect
+        assertThatThrownBy(() -> registry.findShipName(1701))
+                .isInstanceOf(MockitoException.class)
+                .hasMessage("No elements to return from findShipName() - an empty iterator (or stream) was provided");
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8;
+
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
+import info.solidsoft.mockito.java8.domain.TacticalStation;
+import org.junit.jupiter.api.Test;
+
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.atomic.LongAdder;
+
+import static info.solidsoft.mockito.java8.StreamingCaptor.captureFirstArgInto;
+import static info.solidsoft.mockito.java8.StreamingCaptor.streamArgs;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.withSettings;
+
+class StreamingCaptorTest {
+
+    private static final int NUMBER_OF_INVOCATIONS = 100_000;
+
+    private final TacticalStation ts = mock(TacticalStation.class, withSettings().stubOnly());
+
+    @Test
+    void shouldStreamArgumentsOfEveryCallToSink() {
+        //given
+        IntSummaryStatistics rangeStatistics = new IntSummaryStatistics();
+        streamArgs(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> rangeStatistics.accept(c.getMinimumRange()));
+        //when
+        for (int i = 0; i < NUMBER_OF_INVOCATIONS; i++) {
+            ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(i, 2));
+        }
+        //then
+        assertThat(rangeStatistics.getCount()).isEqualTo(NUMBER_OF_INVOCATIONS);
+        assertThat(rangeStatistics.getMax()).isEqualTo(NUMBER_OF_INVOCATIONS - 1);
+        assertThat(mockingDetails(ts).getInvocations()).hasSizeLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void shouldStreamPrimitiveArgumentsAndKeepDefaultAnswer() {
+        //given
+        LongAdder tubeNumberSum = new LongAdder();
+        streamArgs(ts, TacticalStation::getTubeStatus, (Integer tubeNumber) -> tubeNumberSum.add(tubeNumber));
+        //when
+        TacticalStation.TubeStatus tubeStatus = ts.getTubeStatus(2);
+        ts.getTubeStatus(3);
+        //then
+        assertThat(tubeStatus).isNull();
+        assertThat(tubeNumberSum.sum()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldCaptureArgumentsIntoSinkInStubbing() {
+        //given
+        IntSummaryStatistics rangeStatistics = new IntSummaryStatistics();
+        given(ts.findNumberOfShipsInRangeByCriteria(any(ShipSearchCriteria.class)))
+                .will(captureFirstArgInto((ShipSearchCriteria c) -> rangeStatistics.accept(c.getMinimumRange()), invocation -> 4));
+        //when
+        int numberOfShips = ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 2));
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(3000, 2));
+        //then
+        assertThat(numberOfShips).isEqualTo(4);
+        assertThat(rangeStatistics.getCount()).isEqualTo(2);
+        assertThat(rangeStatistics.getSum()).isEqualTo(4000);
+    }
+
+    @Test
+    void shouldCaptureArgumentOnceWhenSeveralStubbingsAreEvaluated() {
+        //given
+        IntSummaryStatistics rangeStatistics = new IntSummaryStatistics();
+        given(ts.findNumberOfShipsInRangeByCriteria(any(ShipSearchCriteria.class)))
+                .will(captureFirstArgInto((ShipSearchCriteria c) -> rangeStatistics.accept(c.getMinimumRange()), invocation -> 4));
+        given(ts.findNumberOfShipsInRangeByCriteria(argThat(c -> c != null && c.getMinimumRange() > 5000))).willReturn(8);
+        //when
+        int numberOfShips = ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 2));
+        int numberOfShipsFarAway = ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(6000, 2));
+        //then
+        assertThat(numberOfShips).isEqualTo(4);
+        assertThat(numberOfShipsFarAway).isEqualTo(8);
+        assertThat(rangeStatistics.getCount()).isEqualTo(1);
+        assertThat(rangeStatistics.getSum()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldNotStreamNullArguments() {
+        //given
+        LongAdder numberOfCalls = new LongAdder();
+        streamArgs(ts, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> numberOfCalls.increment());
+        //when
+        ts.findNumberOfShipsInRangeByCriteria(null);
+        ts.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 2));
+        //then
+        assertThat(numberOfCalls.sum()).isEqualTo(1);
+    }
+}
@@ -5,6 +5,7 @@
  */
 package info.solidsoft.mockito.java8.api;
 
+import info.solidsoft.mockito.java8.domain.ShipSearchCriteria;
 import info.solidsoft.mockito.java8.domain.TacticalStation;
 import org.junit.jupiter.api.Test;
 
@@ -34,4 +35,26 @@ class WithMockitoTest implements WithMockito {
         //assert
         assertThat(numberOfTubes).isEqualTo(3);
     }
+
+    @Test
+    void shouldAllowToUsePrimitiveSpecializedAssertionWithoutStaticImports() {
+        //arrange
+        TacticalStation tsMock = mock(TacticalStation.class);
+        //act
+        tsMock.fireTorpedo(2);
+        //assert
+        verify(tsMock).fireTorpedo(assertIntArg(tubeNumber -> assertThat(tubeNumber).isEqualTo(2)));
+    }
+
+    @Test
+    void shouldAllowToVerifyAllInvocationsWithLambdaWithoutStaticImports() {
+        //arrange
+        TacticalStation tsMock = mock(TacticalStation.class);
+        //act
+        tsMock.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1000, 4));
+        tsMock.findNumberOfShipsInRangeByCriteria(new ShipSearchCriteria(1500, 2));
+        //assert
+        verifyAll(tsMock, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getMinimumRange() < 2000);
+        verifyCount(tsMock, TacticalStation::findNumberOfShipsInRangeByCriteria, c -> c.getNumberOfPhasers() > 2, 1);
+    }
 }
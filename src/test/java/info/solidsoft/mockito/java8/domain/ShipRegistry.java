@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2019 Mockito contributors.
+ *
+ * Licensed under the Apache License, Version 2.0.
+ */
+package info.solidsoft.mockito.java8.domain;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+/**
+ * Test domain interface.
+ */
+public interface ShipRegistry {
+
+    int getNumberOfRegisteredShips();
+
+    String findShipName(int registryNumber);
+
+    boolean isShipRegistered(String shipClass, int registryNumber);
+
+    CompletableFuture<String> findShipNameAsync(int registryNumber);
+
+    CompletionStage<Integer> getNumberOfRegisteredShipsAsync();
+
+    Stream<String> streamShipNames();
+
+    Iterator<String> iterateShipNames();
+
+    Iterable<String> getShipNames();
+
+    int nextRegistryNumber();
+}
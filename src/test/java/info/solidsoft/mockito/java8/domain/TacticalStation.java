@@ -55,6 +55,14 @@ public class TacticalStation {
     public void firePhaser() {
     }
 
+    public boolean raiseShields(double powerRatio) {
+        return false;
+    }
+
+    public int scheduleSelfCheck(long delayInMillis) {
+        return 0;
+    }
+
     public void doSelfCheck() {
     }
 }